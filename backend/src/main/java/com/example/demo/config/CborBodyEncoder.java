@@ -0,0 +1,33 @@
+package com.example.demo.config;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * CBOR 본문 인코더 (application/cbor)
+ * - JSON 변환과 같은 ObjectMapper 설정(모듈, 날짜 형식 등)을 CBOR 팩토리로 복사해 사용
+ */
+@Component
+public class CborBodyEncoder implements StompBodyEncoder {
+
+	private static final MimeType APPLICATION_CBOR = new MimeType("application", "cbor");
+
+	private final ObjectMapper cborMapper;
+
+	public CborBodyEncoder(ObjectMapper objectMapper) {
+		this.cborMapper = objectMapper.copyWith(new CBORFactory());
+	}
+
+	@Override
+	public MimeType getMimeType() {
+		return APPLICATION_CBOR;
+	}
+
+	@Override
+	public byte[] encode(Object payload) throws Exception {
+		return cborMapper.writeValueAsBytes(payload);
+	}
+}
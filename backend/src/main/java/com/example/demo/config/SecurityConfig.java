@@ -109,7 +109,7 @@ public class SecurityConfig {
                 ).permitAll()
 
                 // WebSocket
-                .requestMatchers("/ws/**").permitAll()
+                .requestMatchers("/ws/**", "/ws-native").permitAll()
 
                 // 프로필 이미지 조회 (공개)
                 .requestMatchers("/api/member/profile-image/**").permitAll()
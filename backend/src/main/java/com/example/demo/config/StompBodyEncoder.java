@@ -0,0 +1,16 @@
+package com.example.demo.config;
+
+import org.springframework.util.MimeType;
+
+/**
+ * STOMP MESSAGE 본문 인코더 (JSON 이외 형식)
+ * - 빈으로 등록하면 StompContentNegotiator가 accept-content 헤더로 선택할 수 있게 됨
+ */
+public interface StompBodyEncoder {
+
+	// 클라이언트가 accept-content로 요청하는 MIME 타입
+	MimeType getMimeType();
+
+	// 서버가 보내는 객체를 JSON을 거치지 않고 바로 이 형식으로 직렬화
+	byte[] encode(Object payload) throws Exception;
+}
@@ -0,0 +1,315 @@
+package com.example.demo.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 본문 형식 협상 (기본 JSON, 요청한 클라이언트에게만 CBOR 등 바이너리)
+ * - CONNECT의 accept-content 헤더가 세션 기본값, SUBSCRIBE의 accept-content가 구독별 지정값
+ *   (예: "application/cbor, application/json" - 앞에서부터 지원하는 첫 형식)
+ * - SockJS는 바이너리 프레임을 못 보내므로 네이티브 WebSocket 엔드포인트(/ws-native) 세션만 협상
+ * - 변환된 MESSAGE는 content-type application/octet-stream(바이너리 프레임) + x-body-format 헤더로 실제 형식을 알림
+ * - 발행 시 jsonMessageConverter()가 JSON 본문과 함께 원본 객체를 내부 헤더로 실어 보내고,
+ *   협상된 세션으로 갈 때 그 객체를 해당 형식으로 바로 직렬화 (JSON 재파싱 없이 메시지당 형식별 1회, 구독자끼리 공유)
+ */
+@Slf4j
+@Component
+public class StompContentNegotiator implements ChannelInterceptor {
+
+	public static final String ACCEPT_CONTENT_HEADER = "accept-content";
+	public static final String BODY_FORMAT_HEADER = "x-body-format";
+
+	// 바이너리 프레임을 보낼 수 있는 세션 표시 (네이티브 엔드포인트 핸드셰이크에서 설정)
+	public static final String BINARY_CAPABLE_ATTR = "synodos.binaryCapable";
+
+	// 원본 객체 + 형식별 직렬화 결과 (브로커가 구독자별 메시지에 헤더를 그대로 복사하므로 모두 같은 인스턴스를 봄)
+	private static final String ENCODED_BODIES_HEADER = "synodos.encodedBodies";
+
+	private static final byte[] ENCODE_FAILED = new byte[0];
+
+	@Value("${synodos.websocket.content-negotiation:true}")
+	private boolean enabled;
+
+	// MIME 타입 -> 인코더
+	private final Map<String, StompBodyEncoder> encoders = new LinkedHashMap<>();
+
+	// sessionId -> 세션 기본 형식 (JSON이면 없음)
+	private final Map<String, StompBodyEncoder> sessionEncoders = new ConcurrentHashMap<>();
+
+	// sessionId -> (subscriptionId -> 구독별 형식, JSON 지정이면 null 값 대신 JSON_MARKER)
+	private final Map<String, Map<String, StompBodyEncoder>> subscriptionEncoders = new ConcurrentHashMap<>();
+
+	private static final StompBodyEncoder JSON_MARKER = new StompBodyEncoder() {
+		@Override
+		public MimeType getMimeType() {
+			return MimeTypeUtils.APPLICATION_JSON;
+		}
+
+		@Override
+		public byte[] encode(Object payload) {
+			// JSON은 기본 변환 결과를 그대로 보내므로 호출되지 않음
+			throw new UnsupportedOperationException();
+		}
+	};
+
+	private final class EncodedBodies {
+		private final Object payload;
+		private final Map<StompBodyEncoder, byte[]> bodies = new ConcurrentHashMap<>(2);
+
+		EncodedBodies(Object payload) {
+			this.payload = payload;
+		}
+
+		// 실패도 기억해서 같은 메시지의 다른 구독자는 다시 시도하지 않음 (JSON으로 전송)
+		byte[] get(StompBodyEncoder encoder) {
+			byte[] body = bodies.computeIfAbsent(encoder, this::encode);
+			return body == ENCODE_FAILED ? null : body;
+		}
+
+		private byte[] encode(StompBodyEncoder encoder) {
+			try {
+				byte[] body = encoder.encode(payload);
+				encodings.incrementAndGet();
+				return body;
+			} catch (Exception e) {
+				failures.incrementAndGet();
+				log.debug("STOMP body encoding to {} failed: {}", encoder.getMimeType(), e.getMessage());
+				return ENCODE_FAILED;
+			}
+		}
+	}
+
+	private final AtomicLong encodedFrames = new AtomicLong();
+	private final AtomicLong encodings = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	private final AtomicLong jsonBytes = new AtomicLong();
+	private final AtomicLong encodedBytes = new AtomicLong();
+
+	public StompContentNegotiator(List<StompBodyEncoder> encoderBeans) {
+		for (StompBodyEncoder encoder : encoderBeans) {
+			encoders.put(encoder.getMimeType().toString(), encoder);
+		}
+	}
+
+	// 네이티브 WebSocket 엔드포인트용 - 이 핸드셰이크로 열린 세션만 바이너리 형식을 협상
+	public HandshakeInterceptor binaryCapableHandshake() {
+		return new HandshakeInterceptor() {
+			@Override
+			public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+					WebSocketHandler wsHandler, Map<String, Object> attributes) {
+				attributes.put(BINARY_CAPABLE_ATTR, Boolean.TRUE);
+				return true;
+			}
+
+			@Override
+			public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+					WebSocketHandler wsHandler, Exception exception) {
+			}
+		};
+	}
+
+	/**
+	 * 브로커 발행용 JSON 변환기 (configureMessageConverters에서 등록)
+	 * - 협상된 세션이 있을 때만 원본 객체를 헤더에 실어 둠 (없으면 기존 JSON 변환과 동일)
+	 * - 문자열/바이트 배열은 기본 변환기가 그대로 보내도록 넘김
+	 */
+	public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
+		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter() {
+			@Override
+			protected boolean supports(Class<?> clazz) {
+				return clazz != String.class && clazz != byte[].class;
+			}
+
+			// 템플릿이 넘기는 헤더는 아직 수정 가능한 상태 - 여기서 붙인 헤더가 만들어질 메시지에 그대로 들어감
+			@Override
+			protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+				Object json = super.convertToInternal(payload, headers, conversionHint);
+				if (json != null && headers != null && hasNegotiatedSessions()) {
+					MessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(headers, MessageHeaderAccessor.class);
+					if (accessor != null && accessor.isMutable()) {
+						accessor.setHeader(ENCODED_BODIES_HEADER, new EncodedBodies(payload));
+					}
+				}
+				return json;
+			}
+		};
+		converter.setObjectMapper(objectMapper);
+		return converter;
+	}
+
+	private boolean hasNegotiatedSessions() {
+		return !sessionEncoders.isEmpty() || !subscriptionEncoders.isEmpty();
+	}
+
+	// clientOutboundChannel: 협상된 세션으로 가는 MESSAGE 본문 변환
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+			return message;
+		}
+		return encode(message);
+	}
+
+	// clientInboundChannel: CONNECT/SUBSCRIBE 헤더로 형식 기록, 구독 해제/종료 시 정리 (클라이언트 SEND 본문은 건드리지 않음)
+	public ChannelInterceptor inboundInterceptor() {
+		return new ChannelInterceptor() {
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				recordPreference(message);
+				return message;
+			}
+		};
+	}
+
+	private void recordPreference(Message<?> message) {
+		SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+		if (sessionId == null || type == null) {
+			return;
+		}
+		switch (type) {
+			case CONNECT -> {
+				StompBodyEncoder encoder = negotiate(message);
+				if (encoder != null && encoder != JSON_MARKER) {
+					sessionEncoders.put(sessionId, encoder);
+				}
+			}
+			case SUBSCRIBE -> {
+				StompBodyEncoder encoder = negotiate(message);
+				String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+				if (encoder != null && subscriptionId != null) {
+					subscriptionEncoders.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+						.put(subscriptionId, encoder);
+				}
+			}
+			case UNSUBSCRIBE -> {
+				Map<String, StompBodyEncoder> bySubscription = subscriptionEncoders.get(sessionId);
+				String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+				if (bySubscription != null && subscriptionId != null) {
+					bySubscription.remove(subscriptionId);
+				}
+			}
+			case DISCONNECT -> {
+				sessionEncoders.remove(sessionId);
+				subscriptionEncoders.remove(sessionId);
+			}
+			default -> {
+			}
+		}
+	}
+
+	// accept-content 헤더에서 지원하는 첫 형식 (헤더가 없거나 바이너리 불가 세션이면 null)
+	private StompBodyEncoder negotiate(Message<?> message) {
+		if (!enabled) {
+			return null;
+		}
+		Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+		if (attributes == null || !Boolean.TRUE.equals(attributes.get(BINARY_CAPABLE_ATTR))) {
+			return null;
+		}
+		String accept = StompHeaderAccessor.wrap(message).getFirstNativeHeader(ACCEPT_CONTENT_HEADER);
+		if (accept == null || accept.isBlank()) {
+			return null;
+		}
+		for (String candidate : accept.split(",")) {
+			MimeType mimeType;
+			try {
+				mimeType = MimeTypeUtils.parseMimeType(candidate.trim());
+			} catch (Exception e) {
+				continue;
+			}
+			if (MimeTypeUtils.APPLICATION_JSON.equalsTypeAndSubtype(mimeType)) {
+				return JSON_MARKER;
+			}
+			StompBodyEncoder encoder = encoders.get(mimeType.getType() + "/" + mimeType.getSubtype());
+			if (encoder != null) {
+				return encoder;
+			}
+		}
+		return JSON_MARKER;
+	}
+
+	private Message<?> encode(Message<?> message) {
+		if (!hasNegotiatedSessions()) {
+			return message;
+		}
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+		if (sessionId == null || !(message.getPayload() instanceof byte[] json)
+				|| !(message.getHeaders().get(ENCODED_BODIES_HEADER) instanceof EncodedBodies bodies)) {
+			return message;
+		}
+		StompBodyEncoder encoder = null;
+		Map<String, StompBodyEncoder> bySubscription = subscriptionEncoders.get(sessionId);
+		if (bySubscription != null) {
+			String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+			encoder = subscriptionId != null ? bySubscription.get(subscriptionId) : null;
+		}
+		if (encoder == null) {
+			encoder = sessionEncoders.get(sessionId);
+		}
+		if (encoder == null || encoder == JSON_MARKER) {
+			return message;
+		}
+		Object contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+		MimeType mimeType = contentType instanceof MimeType m ? m
+			: contentType != null ? MimeTypeUtils.parseMimeType(contentType.toString()) : null;
+		if (mimeType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(mimeType)) {
+			return message;
+		}
+
+		byte[] body = bodies.get(encoder);
+		if (body == null) {
+			return message;
+		}
+		encodedFrames.incrementAndGet();
+		jsonBytes.addAndGet(json.length);
+		encodedBytes.addAndGet(body.length);
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+		// StompSubProtocolHandler는 octet-stream일 때만 바이너리 프레임으로 보냄
+		accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+		accessor.setNativeHeader(BODY_FORMAT_HEADER, encoder.getMimeType().toString());
+		accessor.removeHeader(ENCODED_BODIES_HEADER);
+		return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("formats", encoders.keySet());
+		stats.put("negotiatedSessions", sessionEncoders.size());
+		stats.put("subscriptionOverrides", subscriptionEncoders.values().stream().mapToInt(Map::size).sum());
+		stats.put("encodedFrames", encodedFrames.get());
+		stats.put("encodings", encodings.get());
+		stats.put("failures", failures.get());
+		stats.put("jsonBytes", jsonBytes.get());
+		stats.put("encodedBytes", encodedBytes.get());
+		return stats;
+	}
+}
@@ -1,21 +1,98 @@
 package com.example.demo.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.example.demo.security.StompAuthChannelInterceptor;
+import com.example.demo.service.PresenceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+	private final WebSocketTransportMonitor transportMonitor;
+
+	private final StompContentNegotiator contentNegotiator;
+
+	private final ObjectMapper objectMapper;
+
+	private final StompAuthChannelInterceptor authInterceptor;
+
+	// PresenceService -> ClusterEventBus -> 브로커 템플릿 순환을 피하려고 지연 주입
+	private final PresenceService presenceService;
+
+	@Value("${synodos.websocket.inbound.core-pool-size:4}")
+	private int inboundCorePoolSize;
+
+	@Value("${synodos.websocket.inbound.max-pool-size:8}")
+	private int inboundMaxPoolSize;
+
+	@Value("${synodos.websocket.inbound.queue-capacity:1000}")
+	private int inboundQueueCapacity;
+
+	@Value("${synodos.websocket.outbound.core-pool-size:8}")
+	private int outboundCorePoolSize;
+
+	@Value("${synodos.websocket.outbound.max-pool-size:16}")
+	private int outboundMaxPoolSize;
+
+	@Value("${synodos.websocket.outbound.queue-capacity:10000}")
+	private int outboundQueueCapacity;
+
+	@Value("${synodos.websocket.send-time-limit-ms:10000}")
+	private int sendTimeLimitMs;
+
+	@Value("${synodos.websocket.send-buffer-size-limit:524288}")
+	private int sendBufferSizeLimit;
+
+	@Value("${synodos.websocket.message-size-limit:65536}")
+	private int messageSizeLimit;
+
+	// STOMP 하트비트 주기 (서버 송신/클라이언트 수신 기대값, 0이면 사용 안 함)
+	@Value("${synodos.websocket.heartbeat-ms:10000}")
+	private long heartbeatMs;
+
+	public WebSocketConfig(WebSocketTransportMonitor transportMonitor, StompContentNegotiator contentNegotiator,
+			ObjectMapper objectMapper, StompAuthChannelInterceptor authInterceptor,
+			@Lazy PresenceService presenceService) {
+		this.transportMonitor = transportMonitor;
+		this.contentNegotiator = contentNegotiator;
+		this.objectMapper = objectMapper;
+		this.authInterceptor = authInterceptor;
+		this.presenceService = presenceService;
+	}
+
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry config) {
 		// Enable simple in-memory broker for topics
-		config.enableSimpleBroker("/topic");
+		// 하트비트가 끊긴 세션은 브로커가 닫고, PresenceService도 마지막 수신 시각으로 접속 만료를 판단
+		ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+		heartbeatScheduler.setPoolSize(1);
+		heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+		heartbeatScheduler.initialize();
+		config.enableSimpleBroker("/topic", "/queue")
+				.setHeartbeatValue(new long[] {heartbeatMs, heartbeatMs})
+				.setTaskScheduler(heartbeatScheduler);
 		// Prefix for messages from clients
 		config.setApplicationDestinationPrefixes("/app");
+		// 개인 알림: /user/{memberNo}/queue/... 로 보내면 그 회원의 세션(/user/queue/... 구독)에만 전달
+		config.setUserDestinationPrefix("/user");
 	}
 
 	@Override
@@ -24,5 +101,51 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		registry.addEndpoint("/ws")
 				.setAllowedOriginPatterns("*")
 				.withSockJS();
+		// SockJS 없는 네이티브 WebSocket - 바이너리 프레임이 가능해서 accept-content로 CBOR 등을 협상할 수 있음
+		registry.addEndpoint("/ws-native")
+				.setAllowedOriginPatterns("*")
+				.addInterceptors(contentNegotiator.binaryCapableHandshake());
+	}
+
+	// 발행 객체 변환 - 협상된 세션용 바이너리 본문을 원본 객체에서 바로 만들 수 있도록 기본 JSON 변환기보다 앞에 둠
+	@Override
+	public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+		messageConverters.add(0, contentNegotiator.jsonMessageConverter(objectMapper));
+		return true;
+	}
+
+	// 세션별 송신 한도 (느린 클라이언트가 브로커 스레드/메모리를 붙잡지 않도록)
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration.setSendTimeLimit(sendTimeLimitMs)
+				.setSendBufferSizeLimit(sendBufferSizeLimit)
+				.setMessageSizeLimit(messageSizeLimit)
+				.addDecoratorFactory(transportMonitor::decorate);
+	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor()
+				.corePoolSize(inboundCorePoolSize)
+				.maxPoolSize(inboundMaxPoolSize)
+				.queueCapacity(inboundQueueCapacity);
+		// CONNECT 인증이 먼저 (이후 프레임에는 세션 사용자가 붙음), 하트비트를 포함한 모든 수신 프레임으로 접속 유지 시각 갱신
+		registration.interceptors(authInterceptor, new ChannelInterceptor() {
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				presenceService.touch(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+				return message;
+			}
+		}, contentNegotiator.inboundInterceptor());
+	}
+
+	// 송신 풀 + 느린 세션 처리/지표 인터셉터 + 본문 형식 변환 (버릴 메시지는 변환하지 않도록 모니터가 먼저)
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor()
+				.corePoolSize(outboundCorePoolSize)
+				.maxPoolSize(outboundMaxPoolSize)
+				.queueCapacity(outboundQueueCapacity);
+		registration.interceptors(transportMonitor, contentNegotiator);
 	}
 }
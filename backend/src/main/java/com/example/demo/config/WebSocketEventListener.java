@@ -1,10 +1,11 @@
 package com.example.demo.config;
 
+import com.example.demo.security.MemberPrincipal;
 import com.example.demo.service.PresenceService;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 @Component
@@ -17,8 +18,12 @@ public class WebSocketEventListener {
     }
 
     @EventListener
-    public void handleSessionConnect(SessionConnectEvent event) {
-        // memberNo will be set when client sends JOIN_TEAM message
+    public void handleSessionConnected(SessionConnectedEvent event) {
+        // CONNECT에서 인증된 세션은 바로 접속 처리 (팀 참여는 JOIN 메시지로)
+        if (event.getUser() instanceof MemberPrincipal principal) {
+            StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+            presenceService.userConnected(headerAccessor.getSessionId(), principal.getMemberNo());
+        }
     }
 
     @EventListener
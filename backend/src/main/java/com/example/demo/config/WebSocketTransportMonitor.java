@@ -0,0 +1,272 @@
+package com.example.demo.config;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 송신 역압(backpressure) + 전송 지표
+ * - 송신 버퍼는 SubProtocolWebSocketHandler가 감싼 Spring 데코레이터가 관리 (send-buffer-size-limit 초과 시 세션 종료)
+ *   이 데코레이터는 그 안쪽에서 한 번에 한 메시지씩 받으므로 전송 중 시간만 추적
+ * - clientOutboundChannel에서 전송이 send-time-limit-ms 넘게 걸리는 세션으로 가는 메시지는 정책에 따라 세션을 닫거나(close, 기본) 버림(drop)
+ *   close: 클라이언트가 재연결하면서 replay로 놓친 이벤트를 받음
+ *   drop: 보드 이벤트를 버린 세션은 회복 후 다음 보드 프레임에 x-resync 헤더를 붙여 클라이언트가 replay를 요청하게 함
+ * - 목적지 패턴별 발행 -> 세션 전송 완료까지의 지연(fan-out latency) 집계
+ */
+@Slf4j
+@Component
+public class WebSocketTransportMonitor implements ExecutorChannelInterceptor {
+
+	public static final String POLICY_DROP = "drop";
+	public static final String POLICY_CLOSE = "close";
+
+	// 발행 시각 (System.nanoTime) - ClusterEventBus가 convertAndSend 시 native header로 붙임
+	public static final String PUBLISHED_AT_HEADER = "x-published-ns";
+
+	// drop 정책으로 보드 이벤트를 잃은 세션에 보내는 재동기화 요청 (native header - 클라이언트가 읽음)
+	public static final String RESYNC_HEADER = "x-resync";
+
+	// preSend에서 native header를 이 헤더로 옮김 (STOMP 프레임에는 native header만 실리므로 브라우저로 나가지 않음)
+	private static final String PUBLISHED_AT_ATTR = "synodos.publishedNs";
+
+	// /topic/team/12/chat -> /topic/team/{id}/chat (목적지별 지표 개수를 제한)
+	private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+	// 보드 이벤트 목적지 (/topic/team/{teamId})
+	private static final Pattern BOARD_TOPIC = Pattern.compile("^/topic/team/\\d+$");
+
+	@Value("${synodos.websocket.send-time-limit-ms:10000}")
+	private int sendTimeLimitMs;
+
+	@Value("${synodos.websocket.slow-consumer-policy:close}")
+	private String slowConsumerPolicy;
+
+	private final ApplicationContext applicationContext;
+
+	// sessionId -> 전송 중 시간을 추적하는 세션
+	private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+	// 목적지 패턴 -> 지연 집계
+	private final Map<String, LatencyStats> latencies = new ConcurrentHashMap<>();
+
+	private final AtomicLong delivered = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong slowSessionsClosed = new AtomicLong();
+
+	private static class LatencyStats {
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void record(long nanos) {
+			count.incrementAndGet();
+			totalNanos.addAndGet(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+	}
+
+	// Spring 데코레이터가 전송을 직렬화하므로 sendMessage는 한 번에 하나 - 시작 시각만 기록
+	private static class TrackedSession extends WebSocketSessionDecorator {
+		private volatile long sendStartedAt;
+		// drop 정책으로 보드 이벤트를 버림 - 다음 보드 프레임에 재동기화 요청
+		private volatile boolean resyncPending;
+
+		TrackedSession(WebSocketSession session) {
+			super(session);
+		}
+
+		@Override
+		public void sendMessage(WebSocketMessage<?> message) throws IOException {
+			sendStartedAt = System.currentTimeMillis();
+			try {
+				super.sendMessage(message);
+			} finally {
+				sendStartedAt = 0;
+			}
+		}
+
+		long getTimeSinceSendStarted() {
+			long started = sendStartedAt;
+			return started > 0 ? System.currentTimeMillis() - started : 0;
+		}
+	}
+
+	public WebSocketTransportMonitor(ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	// 세션 전송 시간 추적용 핸들러 데코레이터
+	public WebSocketHandler decorate(WebSocketHandler handler) {
+		return new WebSocketHandlerDecorator(handler) {
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				TrackedSession tracked = new TrackedSession(session);
+				sessions.put(session.getId(), tracked);
+				super.afterConnectionEstablished(tracked);
+			}
+
+			@Override
+			public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+				super.handleMessage(tracked(session), message);
+			}
+
+			@Override
+			public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+				super.handleTransportError(tracked(session), exception);
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+				TrackedSession tracked = sessions.remove(session.getId());
+				super.afterConnectionClosed(tracked != null ? tracked : session, closeStatus);
+			}
+		};
+	}
+
+	private WebSocketSession tracked(WebSocketSession session) {
+		TrackedSession tracked = sessions.get(session.getId());
+		return tracked != null ? tracked : session;
+	}
+
+	// 느린 세션으로 가는 브로드캐스트 메시지 처리 (MESSAGE 프레임만, CONNECTED/ERROR 등 제어 프레임은 통과)
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+			return message;
+		}
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+		TrackedSession tracked = sessionId != null ? sessions.get(sessionId) : null;
+		String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+		boolean boardEvent = destination != null && BOARD_TOPIC.matcher(destination).matches();
+		if (tracked == null || !isSlow(tracked)) {
+			boolean resync = boardEvent && tracked != null && tracked.resyncPending;
+			if (resync) {
+				tracked.resyncPending = false;
+			}
+			return prepareOutbound(message, resync);
+		}
+		if (POLICY_CLOSE.equalsIgnoreCase(slowConsumerPolicy)) {
+			if (sessions.remove(sessionId) != null) {
+				slowSessionsClosed.incrementAndGet();
+				log.warn("Closing slow WebSocket session {} (sending for {} ms)",
+					sessionId, tracked.getTimeSinceSendStarted());
+				try {
+					tracked.close(CloseStatus.SESSION_NOT_RELIABLE);
+				} catch (IOException e) {
+					log.debug("Failed to close slow session {}: {}", sessionId, e.getMessage());
+				}
+			}
+		} else if (boardEvent) {
+			tracked.resyncPending = true;
+		}
+		dropped.incrementAndGet();
+		return null;
+	}
+
+	private boolean isSlow(TrackedSession session) {
+		return session.getTimeSinceSendStarted() > sendTimeLimitMs;
+	}
+
+	// 발행 시각 헤더를 내부 헤더로 옮기고 필요하면 재동기화 요청 헤더를 붙임
+	private Message<?> prepareOutbound(Message<?> message, boolean resync) {
+		String publishedAt = SimpMessageHeaderAccessor.getFirstNativeHeader(PUBLISHED_AT_HEADER, message.getHeaders());
+		if (publishedAt == null && !resync) {
+			return message;
+		}
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+		if (publishedAt != null) {
+			accessor.removeNativeHeader(PUBLISHED_AT_HEADER);
+			accessor.setHeader(PUBLISHED_AT_ATTR, publishedAt);
+		}
+		if (resync) {
+			accessor.addNativeHeader(RESYNC_HEADER, "true");
+		}
+		return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+	}
+
+	@Override
+	public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+		if (ex != null || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+			return;
+		}
+		delivered.incrementAndGet();
+		Object publishedAt = message.getHeaders().get(PUBLISHED_AT_ATTR);
+		String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+		if (publishedAt == null || destination == null) {
+			return;
+		}
+		try {
+			long latency = System.nanoTime() - Long.parseLong(publishedAt.toString());
+			latencies.computeIfAbsent(ID_SEGMENT.matcher(destination).replaceAll("/{id}"), k -> new LatencyStats())
+				.record(latency);
+		} catch (NumberFormatException e) {
+			// 형식이 잘못된 헤더 - 무시
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("sessions", sessions.size());
+		int slowSessions = 0;
+		for (TrackedSession session : sessions.values()) {
+			if (isSlow(session)) {
+				slowSessions++;
+			}
+		}
+		stats.put("slowSessions", slowSessions);
+		stats.put("slowConsumerPolicy", slowConsumerPolicy);
+		stats.put("delivered", delivered.get());
+		stats.put("dropped", dropped.get());
+		stats.put("slowSessionsClosed", slowSessionsClosed.get());
+		stats.put("outboundQueue", executorStats("clientOutboundChannelExecutor"));
+		stats.put("inboundQueue", executorStats("clientInboundChannelExecutor"));
+
+		Map<String, Object> fanOut = new LinkedHashMap<>();
+		latencies.forEach((destination, latency) -> {
+			long count = latency.count.get();
+			Map<String, Object> item = new LinkedHashMap<>();
+			item.put("count", count);
+			item.put("avgMs", count > 0 ? latency.totalNanos.get() / count / 1_000_000.0 : 0.0);
+			item.put("maxMs", latency.maxNanos.get() / 1_000_000.0);
+			fanOut.put(destination, item);
+		});
+		stats.put("fanOutLatency", fanOut);
+		return stats;
+	}
+
+	private Map<String, Object> executorStats(String beanName) {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		try {
+			ThreadPoolTaskExecutor executor = applicationContext.getBean(beanName, ThreadPoolTaskExecutor.class);
+			stats.put("queued", executor.getThreadPoolExecutor().getQueue().size());
+			stats.put("active", executor.getActiveCount());
+			stats.put("poolSize", executor.getPoolSize());
+		} catch (Exception e) {
+			stats.put("error", e.getMessage());
+		}
+		return stats;
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.demo.controller;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.example.demo.config.StompContentNegotiator;
+import com.example.demo.config.WebSocketTransportMonitor;
+import com.example.demo.dto.BoardChanges;
+import com.example.demo.dto.BoardReplay;
+import com.example.demo.dto.BoardSnapshot;
+import com.example.demo.service.BoardEventDispatcher;
+import com.example.demo.service.BoardService;
+import com.example.demo.service.PresenceService;
+import com.example.demo.service.ClusterEventBus;
+
+@RestController
+@RequestMapping("/api/board")
+public class BoardController {
+
+	@Autowired
+	private BoardService service;
+
+	@Autowired
+	private ClusterEventBus clusterEventBus;
+
+	@Autowired
+	private BoardEventDispatcher eventDispatcher;
+
+	@Autowired
+	private WebSocketTransportMonitor transportMonitor;
+
+	@Autowired
+	private PresenceService presenceService;
+
+	@Autowired
+	private StompContentNegotiator contentNegotiator;
+
+	// 팀 보드 스냅샷 (팀/멤버 + 컬럼 + 태스크 카드 + 담당자/검증자 + 댓글 수 + 즐겨찾기 + GitHub 배지)
+	@GetMapping("{teamId}/snapshot")
+	public ResponseEntity<BoardSnapshot> snapshot(
+			@PathVariable("teamId") int teamId,
+			@RequestParam(value = "memberNo", required = false) Integer memberNo) {
+		BoardSnapshot snapshot = service.getSnapshot(teamId, memberNo);
+		return snapshot != null ? ResponseEntity.ok(snapshot) : ResponseEntity.notFound().build();
+	}
+
+	// since 리비전 이후 변경분 (재접속 시 스냅샷 대신 사용, resetRequired면 스냅샷 재요청)
+	@GetMapping("{teamId}/changes")
+	public BoardChanges changes(
+			@PathVariable("teamId") int teamId,
+			@RequestParam("since") long since) {
+		return service.getChanges(teamId, since);
+	}
+
+	// since 리비전 이후 놓친 WebSocket 이벤트 (메모리 버퍼, resetRequired면 스냅샷 재요청)
+	@GetMapping("{teamId}/replay")
+	public BoardReplay replay(
+			@PathVariable("teamId") int teamId,
+			@RequestParam("since") long since) {
+		return service.getReplay(teamId, since);
+	}
+
+	// 보드 캐시 통계 (hit/miss/eviction)
+	@GetMapping("cache/stats")
+	public Map<String, Object> cacheStats() {
+		return service.getCacheStats();
+	}
+
+	// 클러스터 이벤트 버스 상태 (모드, 노드 ID, 발행/수신/중복 수)
+	@GetMapping("cluster/stats")
+	public Map<String, Object> clusterStats() {
+		return clusterEventBus.getStats();
+	}
+
+	// 보드 이벤트 배치 발송 통계 (등록/병합/프레임 수)
+	@GetMapping("events/stats")
+	public Map<String, Object> eventStats() {
+		return eventDispatcher.getStats();
+	}
+
+	// WebSocket 송신 상태 (느린 세션, 드롭/강제 종료 수, 송신 큐, 목적지별 fan-out 지연)
+	@GetMapping("websocket/stats")
+	public Map<String, Object> websocketStats() {
+		return transportMonitor.getStats();
+	}
+
+	// STOMP 본문 형식 협상 (협상된 세션 수, 변환 프레임 수, JSON 대비 바이트)
+	@GetMapping("websocket/encoding/stats")
+	public Map<String, Object> websocketEncodingStats() {
+		return contentNegotiator.getStats();
+	}
+
+	// 접속자 상태 (세션 수, 변경분 발송 횟수, 만료 정리된 세션 수)
+	@GetMapping("presence/stats")
+	public Map<String, Object> presenceStats() {
+		return presenceService.getStats();
+	}
+}
@@ -0,0 +1,27 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.BoardReplay;
+import com.example.demo.service.BoardService;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+public class BoardSyncController {
+
+    private final BoardService boardService;
+
+    public BoardSyncController(BoardService boardService) {
+        this.boardService = boardService;
+    }
+
+    // 재연결 시 /app/board/{teamId}/replay 구독 (since 헤더 = 마지막으로 받은 리비전) -> 놓친 이벤트를 해당 세션에만 응답
+    @SubscribeMapping("/board/{teamId}/replay")
+    public BoardReplay replay(
+            @DestinationVariable Integer teamId,
+            @Header(name = "since", required = false) Long since
+    ) {
+        return boardService.getReplay(teamId, since != null ? since : 0L);
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.demo.controller;
 
 import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import com.example.demo.model.ChatMessage;
 import com.example.demo.service.ChatService;
@@ -17,6 +20,11 @@ public class ChatController {
 	// 메시지 전송
 	@PostMapping("/send")
 	public ResponseEntity<ChatMessage> sendMessage(@RequestBody ChatMessage message) {
+		// 발신자는 요청 본문이 아니라 인증 정보로 결정
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth != null && auth.getCredentials() instanceof Integer memberNo) {
+			message.setSenderNo(memberNo);
+		}
 		ChatMessage created = service.sendMessage(message);
 		if (created != null) {
 			return ResponseEntity.ok(created);
@@ -49,4 +57,16 @@ public class ChatController {
 		int result = service.deleteMessage(messageId);
 		return ResponseEntity.ok(result);
 	}
+
+	// 최근 메시지 버퍼 상태
+	@GetMapping("/cache/stats")
+	public Map<String, Object> cacheStats() {
+		return service.getCacheStats();
+	}
+
+	// 메시지 저장 대기열 상태 (대기 건수, 가장 오래된 미저장 메시지, 재시도/유실 수)
+	@GetMapping("/persistence/stats")
+	public Map<String, Object> persistenceStats() {
+		return service.getPersistenceStats();
+	}
 }
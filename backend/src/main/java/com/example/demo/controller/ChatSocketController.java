@@ -0,0 +1,36 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.ChatMessage;
+import com.example.demo.security.MemberPrincipal;
+import com.example.demo.service.ChatService;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+public class ChatSocketController {
+
+    private final ChatService chatService;
+
+    public ChatSocketController(ChatService chatService) {
+        this.chatService = chatService;
+    }
+
+    // /app/chat/{teamId}/send - 이미 연결된 STOMP 세션으로 전송 (요청마다 HTTP/JWT 검증 없음, 발신자는 CONNECT 때의 회원)
+    @MessageMapping("/chat/{teamId}/send")
+    public void send(
+            @DestinationVariable Integer teamId,
+            @Payload ChatMessage message,
+            Principal principal
+    ) {
+        if (!(principal instanceof MemberPrincipal member)) {
+            return;
+        }
+        message.setTeamId(teamId);
+        message.setSenderNo(member.getMemberNo());
+        chatService.sendMessage(message);
+    }
+}
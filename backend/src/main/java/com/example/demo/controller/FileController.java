@@ -1,7 +1,9 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.ProjectFile;
 import com.example.demo.service.FileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.net.URLEncoder;
@@ -30,6 +33,9 @@ public class FileController {
     @Autowired
     private FileService fileService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/upload")
     public ResponseEntity<Map<String, Object>> upload(
             @RequestParam("file") MultipartFile file,
@@ -57,6 +63,25 @@ public class FileController {
         return ResponseEntity.ok(files);
     }
 
+    // 팀 파일 목록 (키셋 페이지)
+    @GetMapping("/team/{teamId}/page")
+    public ResponseEntity<CursorPage<ProjectFile>> listByTeamPage(
+            @PathVariable int teamId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(fileService.listByTeamPage(teamId, cursor, CursorPage.clampSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 팀 파일 목록 (NDJSON 스트리밍)
+    @GetMapping("/team/{teamId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamByTeam(@PathVariable int teamId) {
+        return NdjsonResponses.<ProjectFile>stream(objectMapper, sink -> fileService.streamByTeam(teamId, sink));
+    }
+
     @GetMapping("/task/{taskId}")
     public ResponseEntity<List<ProjectFile>> listByTask(@PathVariable int taskId) {
         List<ProjectFile> files = fileService.listByTask(taskId);
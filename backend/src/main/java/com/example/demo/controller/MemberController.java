@@ -16,14 +16,17 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.demo.dto.AuthResponse;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.Member;
 import com.example.demo.model.MemberSocialLink;
 import com.example.demo.security.JwtTokenProvider;
 import com.example.demo.service.MemberService;
 import com.example.demo.dao.MemberSocialLinkDao;
 import com.example.demo.dao.TeamDao;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api")
@@ -33,16 +36,18 @@ public class MemberController {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final TeamDao teamDao;
 	private final MemberSocialLinkDao socialLinkDao;
+	private final ObjectMapper objectMapper;
 
 	@Value("${synodos.upload.path:uploads}")
 	private String uploadPath;
 
 	public MemberController(MemberService service, JwtTokenProvider jwtTokenProvider,
-							TeamDao teamDao, MemberSocialLinkDao socialLinkDao) {
+							TeamDao teamDao, MemberSocialLinkDao socialLinkDao, ObjectMapper objectMapper) {
 		this.service = service;
 		this.jwtTokenProvider = jwtTokenProvider;
 		this.teamDao = teamDao;
 		this.socialLinkDao = socialLinkDao;
+		this.objectMapper = objectMapper;
 	}
 
 	// 회원가입
@@ -257,6 +262,24 @@ public class MemberController {
 		return service.findAll();
 	}
 
+	// 모든 회원 조회 (키셋 페이지)
+	@GetMapping("member/page")
+	public ResponseEntity<CursorPage<Member>> getMembersPage(
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size) {
+		try {
+			return ResponseEntity.ok(service.findAllPage(cursor, CursorPage.clampSize(size)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	// 모든 회원 조회 (NDJSON 스트리밍)
+	@GetMapping("member/stream")
+	public ResponseEntity<StreamingResponseBody> streamMembers() {
+		return NdjsonResponses.stream(objectMapper, service::streamAll);
+	}
+
 	// 회원 탈퇴
 	@DeleteMapping("member/delete/{no}")
 	public Map<String, Object> deleteMember(@PathVariable int no) {
@@ -0,0 +1,49 @@
+package com.example.demo.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON(application/x-ndjson) 스트리밍 응답 헬퍼
+ * - 한 줄에 JSON 객체 하나, 결과 전체를 메모리에 올리지 않고 행 단위로 기록
+ * - producer는 응답 스레드에서 실행되므로 DB 커서/트랜잭션은 producer 안에서 열어야 함
+ */
+final class NdjsonResponses {
+
+	static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	// 이 건수마다 flush 해서 클라이언트가 바로 읽을 수 있게 함
+	private static final int FLUSH_EVERY = 100;
+
+	private NdjsonResponses() {
+	}
+
+	static <T> ResponseEntity<StreamingResponseBody> stream(ObjectMapper mapper, Consumer<Consumer<T>> producer) {
+		StreamingResponseBody body = out -> {
+			int[] written = {0};
+			try {
+				producer.accept(item -> {
+					try {
+						out.write(mapper.writeValueAsBytes(item));
+						out.write('\n');
+						if (++written[0] % FLUSH_EVERY == 0) {
+							out.flush();
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				// 클라이언트 연결 끊김 등
+				throw e.getCause();
+			}
+			out.flush();
+		};
+		return ResponseEntity.ok().contentType(NDJSON).body(body);
+	}
+}
@@ -5,8 +5,12 @@ import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.Notification;
+import com.example.demo.service.NotificationPartitionService;
 import com.example.demo.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api/notification")
@@ -15,6 +19,12 @@ public class NotificationController {
     @Autowired
     private NotificationService service;
 
+    @Autowired
+    private NotificationPartitionService partitionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // 알림 목록 조회
     @GetMapping("/list/{memberNo}")
     public ResponseEntity<List<Notification>> getNotifications(
@@ -23,6 +33,25 @@ public class NotificationController {
         return ResponseEntity.ok(service.getNotifications(memberNo, limit));
     }
 
+    // 알림 목록 조회 (키셋 페이지)
+    @GetMapping("/page/{memberNo}")
+    public ResponseEntity<CursorPage<Notification>> getNotificationsPage(
+            @PathVariable int memberNo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getNotificationsPage(memberNo, cursor, CursorPage.clampSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 알림 목록 조회 (NDJSON 스트리밍)
+    @GetMapping("/stream/{memberNo}")
+    public ResponseEntity<StreamingResponseBody> streamNotifications(@PathVariable int memberNo) {
+        return NdjsonResponses.<Notification>stream(objectMapper, sink -> service.streamNotifications(memberNo, sink));
+    }
+
     // 읽지 않은 알림 목록
     @GetMapping("/unread/{memberNo}")
     public ResponseEntity<List<Notification>> getUnreadNotifications(@PathVariable int memberNo) {
@@ -62,4 +91,16 @@ public class NotificationController {
         int result = service.deleteAllNotifications(memberNo);
         return ResponseEntity.ok(Map.of("success", true, "count", result));
     }
+
+    // 알림 발송 상태 (저장 건수, 전송 대기/실패 수)
+    @GetMapping("/stats")
+    public Map<String, Object> stats() {
+        return service.getStats();
+    }
+
+    // 월 파티션 목록/보관 정책
+    @GetMapping("/partitions/stats")
+    public Map<String, Object> partitionStats() {
+        return partitionService.getStats();
+    }
 }
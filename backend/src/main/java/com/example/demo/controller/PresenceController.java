@@ -1,12 +1,15 @@
 package com.example.demo.controller;
 
+import com.example.demo.security.MemberPrincipal;
 import com.example.demo.service.PresenceService;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
 import java.util.Map;
 
 @Controller
@@ -21,11 +24,14 @@ public class PresenceController {
     @MessageMapping("/presence/join/{teamId}")
     public void joinTeam(
             @DestinationVariable Integer teamId,
-            @Payload Map<String, Integer> payload,
-            SimpMessageHeaderAccessor headerAccessor
+            @Payload(required = false) Map<String, Integer> payload,
+            SimpMessageHeaderAccessor headerAccessor,
+            Principal principal
     ) {
         String sessionId = headerAccessor.getSessionId();
-        Integer memberNo = payload.get("memberNo");
+        // 인증된 세션은 CONNECT 때의 회원번호만 사용 (payload의 memberNo는 인증 비활성 시에만)
+        Integer memberNo = principal instanceof MemberPrincipal member ? Integer.valueOf(member.getMemberNo())
+                : principal == null && payload != null ? payload.get("memberNo") : null;
 
         if (memberNo != null) {
             presenceService.userConnected(sessionId, memberNo);
@@ -41,4 +47,10 @@ public class PresenceController {
         String sessionId = headerAccessor.getSessionId();
         presenceService.leaveTeam(sessionId, teamId);
     }
+
+    // /app/presence/{teamId} 구독 -> 현재 접속자 전체 목록을 이 세션에만 한 번 응답 (이후는 PRESENCE_DELTA)
+    @SubscribeMapping("/presence/{teamId}")
+    public Map<String, Object> snapshot(@DestinationVariable Integer teamId) {
+        return presenceService.getSnapshot(teamId);
+    }
 }
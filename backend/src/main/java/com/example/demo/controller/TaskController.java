@@ -4,10 +4,15 @@ import java.util.Date;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.Task;
+import com.example.demo.model.TaskCard;
 import com.example.demo.service.TaskService;
 import jakarta.validation.Valid;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -18,30 +23,50 @@ public class TaskController {
 	@Autowired
 	private TaskService service;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	// 태스크 생성
 	@PostMapping("taskwrite")
 	public Integer taskwrite(@Valid @RequestBody Task task) {
-		// 새 태스크의 position 설정
-		int maxPos = service.getMaxPosition(task.getColumnId());
-		task.setPosition(maxPos + 1);
+		// 새 태스크는 컬럼 맨 뒤에 추가 (position은 INSERT 문에서 계산)
+		task.setPosition(0);
 		return service.insert(task);
 	}
 
 	// 전체 태스크 목록
 	@GetMapping("tasklist")
-	public List<Task> tasklist() {
+	public List<TaskCard> tasklist() {
 		return service.listAll();
 	}
 
+	// 전체 태스크 목록 (키셋 페이지)
+	@GetMapping("tasklist/page")
+	public ResponseEntity<CursorPage<TaskCard>> tasklistPage(
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size) {
+		try {
+			return ResponseEntity.ok(service.listAllPage(cursor, CursorPage.clampSize(size)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	// 전체 태스크 목록 (NDJSON 스트리밍)
+	@GetMapping("tasklist/stream")
+	public ResponseEntity<StreamingResponseBody> tasklistStream() {
+		return NdjsonResponses.stream(objectMapper, service::streamAll);
+	}
+
 	// 컬럼별 태스크 목록
 	@GetMapping("tasklist/{columnId}")
-	public List<Task> tasklistByColumn(@PathVariable("columnId") int columnId) {
+	public List<TaskCard> tasklistByColumn(@PathVariable("columnId") int columnId) {
 		return service.listByColumn(columnId);
 	}
 
 	// 팀별 태스크 목록
 	@GetMapping("tasklist/team/{teamId}")
-	public List<Task> tasklistByTeam(@PathVariable("teamId") int teamId) {
+	public List<TaskCard> tasklistByTeam(@PathVariable("teamId") int teamId) {
 		return service.listByTeam(teamId);
 	}
 
@@ -74,17 +99,42 @@ public class TaskController {
 		return service.updatePosition(task);
 	}
 
+	// 여러 태스크 순서 일괄 변경 (한 트랜잭션, TASK_MOVED 이벤트 1회)
+	@PutMapping("taskposition/batch")
+	public Integer taskpositionBatch(@RequestBody List<Task> tasks) {
+		return service.updatePositions(tasks);
+	}
+
 	// ========== Issue Tracker 확장 엔드포인트 ==========
 
 	// 담당자별 태스크 목록 (내 이슈)
 	@GetMapping("tasklist/assignee/{memberNo}")
-	public List<Task> tasklistByAssignee(@PathVariable("memberNo") int memberNo) {
+	public List<TaskCard> tasklistByAssignee(@PathVariable("memberNo") int memberNo) {
 		return service.listByAssignee(memberNo);
 	}
 
+	// 담당자별 태스크 목록 (키셋 페이지)
+	@GetMapping("tasklist/assignee/{memberNo}/page")
+	public ResponseEntity<CursorPage<TaskCard>> tasklistByAssigneePage(
+			@PathVariable("memberNo") int memberNo,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size) {
+		try {
+			return ResponseEntity.ok(service.listByAssigneePage(memberNo, cursor, CursorPage.clampSize(size)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	// 담당자별 태스크 목록 (NDJSON 스트리밍)
+	@GetMapping("tasklist/assignee/{memberNo}/stream")
+	public ResponseEntity<StreamingResponseBody> tasklistByAssigneeStream(@PathVariable("memberNo") int memberNo) {
+		return NdjsonResponses.<TaskCard>stream(objectMapper, sink -> service.streamByAssignee(memberNo, sink));
+	}
+
 	// 워크플로우 상태별 태스크 목록 (팀 내)
 	@GetMapping("tasklist/team/{teamId}/status/{workflowStatus}")
-	public List<Task> tasklistByStatusAndTeam(
+	public List<TaskCard> tasklistByStatusAndTeam(
 			@PathVariable("teamId") int teamId,
 			@PathVariable("workflowStatus") String workflowStatus) {
 		return service.listByStatusAndTeam(teamId, workflowStatus);
@@ -105,7 +155,7 @@ public class TaskController {
 
 	// 내 검증 대기 목록 (검증자로 배정된 REVIEW 상태 태스크)
 	@GetMapping("tasklist/verification/pending/{memberNo}")
-	public List<Task> tasklistPendingVerification(@PathVariable("memberNo") int memberNo) {
+	public List<TaskCard> tasklistPendingVerification(@PathVariable("memberNo") int memberNo) {
 		return service.listPendingVerification(memberNo);
 	}
 
@@ -113,7 +163,7 @@ public class TaskController {
 
 	// 팀별 날짜 범위 태스크 조회 (캘린더용)
 	@GetMapping("tasklist/team/{teamId}/calendar")
-	public List<Task> tasklistByDateRange(
+	public List<TaskCard> tasklistByDateRange(
 			@PathVariable("teamId") int teamId,
 			@RequestParam("start") @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
 			@RequestParam("end") @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate) {
@@ -0,0 +1,24 @@
+package com.example.demo.dao;
+
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import com.example.demo.model.BoardChange;
+
+@Mapper
+public interface BoardChangeDao {
+	// 팀 리비전 증가 + 변경 기록 (새 리비전 반환)
+	long recordChange(BoardChange change);
+
+	// 현재 팀 리비전 (기록 없으면 null)
+	Long findRevision(int teamId);
+
+	// 보관 중인 가장 오래된 리비전 (기록 없으면 null)
+	Long findOldestRevision(int teamId);
+
+	// 특정 리비전 이후 변경 목록
+	List<BoardChange> listSince(@Param("teamId") int teamId, @Param("since") long since);
+
+	// 보관 기간이 지난 변경 로그 삭제
+	int deleteOlderThan(int days);
+}
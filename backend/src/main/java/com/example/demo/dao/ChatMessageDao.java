@@ -8,6 +8,10 @@ import com.example.demo.model.ChatMessage;
 @Mapper
 public interface ChatMessageDao {
 	int insert(ChatMessage message);
+	// 메시지 ID 블록 할당 (chat_seq에서 count개)
+	List<Integer> nextIds(int count);
+	// 여러 행 한 번에 저장 (이미 있는 message_id는 건너뜀)
+	int insertBatch(List<ChatMessage> messages);
 	List<ChatMessage> listByTeam(Map<String, Object> params);
 	List<ChatMessage> listRecentByTeam(Map<String, Object> params);
 	ChatMessage content(int messageId);
@@ -0,0 +1,18 @@
+package com.example.demo.dao;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ClusterEventDao {
+	// pg_notify 발행
+	int publish(@Param("channel") String channel, @Param("payload") String payload);
+
+	// 큰 페이로드 저장 (id 반환)
+	long insertPayload(String payload);
+
+	String findPayload(long id);
+
+	// 보관 시간이 지난 페이로드 삭제
+	int deleteOlderThan(int minutes);
+}
@@ -2,6 +2,7 @@ package com.example.demo.dao;
 
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import com.example.demo.model.Comment;
 
 @Mapper
@@ -9,6 +10,7 @@ public interface CommentDao {
 	int insert(Comment comment);
 	List<Comment> listByTask(int taskId);
 	Comment content(int commentId);
+	List<Comment> listByIds(@Param("commentIds") List<Integer> commentIds);
 	int update(Comment comment);
 	int delete(int commentId);
 	int countByTask(int taskId);
@@ -2,13 +2,19 @@ package com.example.demo.dao;
 
 import com.example.demo.model.ProjectFile;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import java.util.List;
 
 @Mapper
 public interface FileDao {
     int insert(ProjectFile file);
     List<ProjectFile> listByTeam(int teamId);
+    List<ProjectFile> listByTeamPage(@Param("teamId") int teamId, @Param("beforeId") Integer beforeId,
+                                     @Param("limit") int limit);
+    Cursor<ProjectFile> streamByTeam(int teamId);
     List<ProjectFile> listByTask(int taskId);
     ProjectFile getById(int fileId);
+    List<ProjectFile> listByIds(@Param("fileIds") List<Integer> fileIds);
     int delete(int fileId);
 }
@@ -0,0 +1,40 @@
+package com.example.demo.dao;
+
+import com.example.demo.model.GitHubSyncOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * GitHub 동기화 Outbox DAO
+ */
+@Mapper
+public interface GitHubSyncOutboxDao {
+
+    // 태스크 변경 등록 (대기 중인 항목이 있으면 합침)
+    int enqueueTaskUpdate(@Param("taskId") int taskId, @Param("memberNo") Integer memberNo);
+
+    // Issue 생성 등록
+    int enqueueIssueCreate(@Param("taskId") int taskId, @Param("memberNo") int memberNo);
+
+    // 댓글 생성 등록
+    int enqueueCommentCreate(@Param("taskId") int taskId, @Param("commentId") int commentId);
+
+    // 처리 가능한 항목 (태스크별로 가장 오래된 대기 항목만)
+    List<GitHubSyncOutbox> listDispatchable(@Param("limit") int limit);
+
+    // 처리 시작 표시 (다른 디스패처가 먼저 가져갔으면 0)
+    int claim(@Param("id") int id);
+
+    // 처리 완료
+    int delete(@Param("id") int id);
+
+    // 재시도 예약 (같은 태스크의 새 대기 항목이 이미 있으면 0 → 삭제) / 최종 실패 처리
+    int markRetry(@Param("id") int id, @Param("delaySeconds") long delaySeconds, @Param("lastError") String lastError);
+    int markFailed(@Param("id") int id, @Param("lastError") String lastError);
+
+    // 처리 중 멈춘 항목 복구 (서버 재시작 등) - 새 대기 항목으로 대체된 것은 삭제
+    int deleteStaleSuperseded(@Param("minutes") int minutes);
+    int releaseStale(@Param("minutes") int minutes);
+}
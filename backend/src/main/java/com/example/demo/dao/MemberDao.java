@@ -1,6 +1,8 @@
 package com.example.demo.dao;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import com.example.demo.model.Member;
 
 @Mapper
@@ -44,6 +46,13 @@ public interface MemberDao {
 	// 모든 회원 조회 (팀 생성 시 초대용)
 	java.util.List<Member> findAll();
 
+	// 회원 목록 키셋 페이지 (name, no 순)
+	java.util.List<Member> findAllPage(@Param("afterName") String afterName, @Param("afterNo") Integer afterNo,
+			@Param("limit") int limit);
+
+	// 회원 목록 스트리밍 (트랜잭션 안에서 사용)
+	Cursor<Member> streamAll();
+
 	// 이메일로 회원 조회
 	Member findByEmail(String email);
 
@@ -1,24 +1,58 @@
 package com.example.demo.dao;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import com.example.demo.model.Notification;
+import com.example.demo.model.NotificationUnread;
 
 @Mapper
 public interface NotificationDao {
     int insert(Notification notification);
-    int markAsRead(int notificationId);
+    // 알림 ID 블록 할당 (notification_seq에서 count개)
+    List<Integer> nextIds(int count);
+    // 여러 수신자 알림을 한 번에 저장
+    int insertBatch(List<Notification> notifications);
+    // 집계 구간 안의 읽지 않은 같은 (태스크, 타입) 알림에 합침 - 합쳐진 행의 id/수신자/횟수
+    List<Notification> mergeRecent(@Param("template") Notification template,
+                                   @Param("recipientNos") Collection<Integer> recipientNos,
+                                   @Param("windowStart") LocalDateTime windowStart,
+                                   @Param("now") LocalDateTime now);
+    // 읽음 처리 / 삭제 - 대상 알림의 수신자 (없으면 null)
+    Integer markAsRead(int notificationId);
     int markAllAsRead(int recipientNo);
-    int delete(int notificationId);
+    Integer delete(int notificationId);
     int deleteAllByRecipient(int recipientNo);
     Notification findById(int notificationId);
     List<Notification> listByRecipient(@Param("recipientNo") int recipientNo, @Param("limit") int limit);
+    List<Notification> listByRecipientPage(@Param("recipientNo") int recipientNo,
+                                           @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                           @Param("beforeId") Integer beforeId, @Param("limit") int limit);
+    Cursor<Notification> streamByRecipient(int recipientNo);
     List<Notification> listUnreadByRecipient(int recipientNo);
-    int countUnread(int recipientNo);
+    // 읽지 않은 알림 수 (notification_unread, 행이 없으면 null = 0)
+    Integer findUnreadCount(int recipientNo);
+    List<NotificationUnread> listUnreadCounts(@Param("recipientNos") Collection<Integer> recipientNos);
 
     /**
-     * 최근 24시간 이내 특정 태스크에 대한 특정 타입의 알림 존재 여부 확인
+     * 마감일 알림 일괄 저장 (태스크 x 담당자, since 이후 같은 타입 알림을 받은 담당자는 제외)
+     * @param overdue true면 마감일이 지난 태스크, false면 daysAhead일 이내
+     * @return 저장된 알림
      */
-    boolean hasRecentNotification(@Param("taskId") int taskId, @Param("type") String type);
+    List<Notification> insertDeadlineNotifications(@Param("type") String type, @Param("title") String title,
+                                                   @Param("messageTemplate") String messageTemplate,
+                                                   @Param("overdue") boolean overdue, @Param("daysAhead") int daysAhead,
+                                                   @Param("now") LocalDateTime now, @Param("since") LocalDateTime since);
+
+    // 월 파티션 관리 (notification_pYYYYMM)
+    List<String> listMonthlyPartitions();
+    // 기본 파티션에 행이 남아 있는 달 (1일)
+    List<LocalDate> listDefaultPartitionMonths();
+    // month가 속한 달의 파티션 생성 (기본 파티션에 그 달 행이 있으면 옮김), 파티션 이름 반환
+    String createMonthlyPartition(@Param("month") LocalDate month);
+    int dropMonthlyPartition(@Param("name") String name);
 }
@@ -11,6 +11,8 @@ public interface TaskAssigneeDao {
     int delete(@Param("taskId") int taskId, @Param("memberNo") int memberNo);
     int deleteByTask(int taskId);
     List<TaskAssignee> listByTask(int taskId);
+    List<TaskAssignee> listByTaskIds(@Param("taskIds") List<Integer> taskIds);
+    List<TaskAssignee> listByTeam(int teamId);
     List<TaskAssignee> listByMember(int memberNo);
     int countByTask(int taskId);
 
@@ -4,13 +4,17 @@ import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import com.example.demo.model.Task;
+import com.example.demo.model.TaskCard;
 
 @Mapper
 public interface TaskDao {
 	int insert(Task task);
-	List<Task> listByColumn(int columnId);
-	List<Task> listAll();
+	List<TaskCard> listByColumn(int columnId);
+	List<TaskCard> listAll();
+	List<TaskCard> listAllPage(@Param("afterTaskId") Integer afterTaskId, @Param("limit") int limit);
+	Cursor<TaskCard> streamAll();
 	List<Task> listByTeam(int teamId);
 	Task content(int taskId);
 	int update(Task task);
@@ -19,22 +23,39 @@ public interface TaskDao {
 	int getMaxPosition(int columnId);
 
 	// Issue Tracker 확장 메서드
-	List<Task> listByAssignee(int memberNo);
-	List<Task> listByStatusAndTeam(Map<String, Object> params);
+	List<TaskCard> listByAssignee(int memberNo);
+	List<TaskCard> listByAssigneePage(@Param("memberNo") int memberNo, @Param("afterRank") Integer afterRank,
+			@Param("afterDueDate") String afterDueDate, @Param("afterTaskId") Integer afterTaskId, @Param("limit") int limit);
+	Cursor<TaskCard> streamByAssignee(int memberNo);
+	List<TaskCard> listByStatusAndTeam(Map<String, Object> params);
 	int updateAssignee(Task task);
 
 	// 워크플로우 관련 메서드
 	int updateWorkflowStatus(Task task);
 	int updateRejection(Task task);
-	List<Task> listPendingVerification(int memberNo);
+	List<TaskCard> listPendingVerification(int memberNo);
 
 	// 캘린더용 날짜 범위 조회
-	List<Task> listByDateRange(Map<String, Object> params);
+	List<TaskCard> listByDateRange(Map<String, Object> params);
 
 	// 날짜 업데이트 (타임라인용)
 	int updateDates(Task task);
 
-	// 마감일 알림용 메서드
-	List<Task> listTasksApproachingDeadline(@Param("daysAhead") int daysAhead);
-	List<Task> listOverdueTasks();
+	// 보드 스냅샷용 (댓글 수, GitHub 연결 정보 포함)
+	List<TaskCard> listBoardCards(int teamId);
+	List<TaskCard> listBoardCardsByIds(@Param("teamId") int teamId, @Param("taskIds") List<Integer> taskIds);
+
+	// 쓰기 + 변경된 카드 반환 (INSERT/UPDATE ... RETURNING, 재조회 없음)
+	Task insertReturning(Task task);
+	Task updateReturning(Task task);
+	Task updateWorkflowStatusReturning(Task task);
+	Task updateRejectionReturning(Task task);
+	Task updateAssigneeReturning(Task task);
+	Task updateDatesReturning(Task task);
+	Integer deleteReturningTeamId(int taskId);
+
+	// 간격 기반 정렬 (중간값 이동, 간격 부족 시 컬럼 재배치)
+	Task moveToSlot(Task task);
+	List<Task> rebalanceColumn(@Param("columnId") int columnId);
+	List<Integer> listTightColumnIds(@Param("minGap") int minGap);
 }
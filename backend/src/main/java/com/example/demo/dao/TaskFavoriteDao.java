@@ -11,6 +11,7 @@ public interface TaskFavoriteDao {
     int delete(@Param("taskId") int taskId, @Param("memberNo") int memberNo);
     List<TaskFavorite> listByMember(int memberNo);
     List<TaskFavorite> listByMemberAndTeam(@Param("memberNo") int memberNo, @Param("teamId") int teamId);
+    List<Integer> listTaskIdsByMemberAndTeam(@Param("memberNo") int memberNo, @Param("teamId") int teamId);
     TaskFavorite findOne(@Param("taskId") int taskId, @Param("memberNo") int memberNo);
     int countByMember(int memberNo);
 }
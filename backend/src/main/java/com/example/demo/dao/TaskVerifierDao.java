@@ -11,6 +11,8 @@ public interface TaskVerifierDao {
     int delete(@Param("taskId") int taskId, @Param("memberNo") int memberNo);
     int deleteByTask(int taskId);
     List<TaskVerifier> listByTask(int taskId);
+    List<TaskVerifier> listByTaskIds(@Param("taskIds") List<Integer> taskIds);
+    List<TaskVerifier> listByTeam(int teamId);
     List<TaskVerifier> listByMember(int memberNo);
     int countByTask(int taskId);
 
@@ -54,4 +54,7 @@ public interface TeamDao {
 
 	// 팀 멤버 역할 변경
 	int updateMemberRole(TeamMember member);
+
+	// 최근 활동(태스크/댓글/채팅)이 있었던 팀 ID 목록 (보드 캐시 워밍업용)
+	List<Integer> listRecentlyActiveTeamIds(int limit);
 }
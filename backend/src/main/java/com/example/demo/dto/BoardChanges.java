@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.example.demo.model.Comment;
+import com.example.demo.model.ProjectFile;
+import com.example.demo.model.SynodosColumn;
+import com.example.demo.model.TaskCard;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보드 변경분 (since 리비전 이후 바뀐 엔티티만 전달)
+ * - 같은 엔티티의 여러 변경은 마지막 상태 하나로 합쳐짐
+ * - resetRequired가 true이면 변경 로그가 부족하므로 스냅샷을 다시 받아야 함
+ */
+@Data
+@NoArgsConstructor
+public class BoardChanges {
+	private int teamId;
+	private long since;
+	private long revision;              // 이 응답을 적용한 뒤의 보드 리비전
+	private boolean resetRequired;
+
+	private List<SynodosColumn> columns = new ArrayList<>();
+	private List<TaskCard> tasks = new ArrayList<>();           // 담당자/검증자, 댓글 수, GitHub 배지 포함
+	private List<Comment> comments = new ArrayList<>();
+	private List<ProjectFile> files = new ArrayList<>();
+
+	private List<Integer> deletedColumnIds = new ArrayList<>();
+	private List<Integer> deletedTaskIds = new ArrayList<>();
+	private List<Integer> deletedCommentIds = new ArrayList<>();
+	private List<Integer> deletedFileIds = new ArrayList<>();
+}
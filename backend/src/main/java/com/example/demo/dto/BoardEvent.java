@@ -15,4 +15,6 @@ public class BoardEvent {
 	private Object payload;      // The actual entity data
 	private int teamId;          // For routing
 	private long timestamp;      // Event timestamp
+	private long revision;       // 팀 보드 리비전 (스냅샷 이후 이벤트 판별용)
+	private boolean diff;        // true면 payload는 바뀐 필드만 (클라이언트는 기존 객체에 병합)
 }
@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재연결 시 놓친 보드 이벤트 재전송 결과
+ * - events는 since 리비전 이후 이벤트 (리비전 순)
+ * - resetRequired가 true이면 버퍼에 남은 이벤트로는 메울 수 없으므로 스냅샷을 다시 받아야 함
+ */
+@Data
+@NoArgsConstructor
+public class BoardReplay {
+	private int teamId;
+	private long since;
+	private long revision;              // 현재 보드 리비전
+	private boolean resetRequired;
+	private List<BoardEvent> events = new ArrayList<>();
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import com.example.demo.model.SynodosColumn;
+import com.example.demo.model.TaskCard;
+import com.example.demo.model.Team;
+import com.example.demo.model.TeamMember;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팀 보드 스냅샷 (보드 첫 로딩을 한 번의 요청으로 처리)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardSnapshot {
+	private int teamId;
+	private long revision;              // 스냅샷 시점의 보드 리비전 (이후 BoardEvent와 비교)
+	private Team team;                  // 팀 정보 (없는 팀이면 null)
+	private List<TeamMember> members;
+	private List<SynodosColumn> columns;
+	private List<TaskCard> tasks;           // 담당자/검증자, 댓글 수, GitHub 배지 포함
+	private List<Integer> favoriteTaskIds; // 요청자의 즐겨찾기 태스크 ID
+	private long generatedAt;
+}
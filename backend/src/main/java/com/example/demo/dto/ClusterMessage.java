@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클러스터 이벤트 버스 메시지 (노드 간 NOTIFY 봉투)
+ * - payload가 NOTIFY 한도를 넘으면 cluster_event 테이블에 저장하고 ref만 전달
+ * - 다른 노드에서 받은 메시지는 로컬 STOMP 전달 후 애플리케이션 이벤트로도 발행됨
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClusterMessage {
+	private String id;           // originNode:seq (중복 제거 키)
+	private String origin;       // 발행 노드 ID
+	private String destination;  // STOMP destination (/topic/...)
+	private JsonNode payload;
+	private Long ref;            // cluster_event.id (payload 대신)
+}
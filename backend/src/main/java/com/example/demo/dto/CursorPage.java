@@ -0,0 +1,68 @@
+package com.example.demo.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키셋(커서) 페이지네이션 응답
+ * - nextCursor는 마지막 항목의 정렬 키를 인코딩한 불투명 문자열 (클라이언트는 그대로 돌려보내기만 함)
+ * - hasMore가 false이면 nextCursor는 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+	public static final int DEFAULT_SIZE = 50;
+	public static final int MAX_SIZE = 200;
+
+	private List<T> items;
+	private String nextCursor;
+	private boolean hasMore;
+
+	/**
+	 * size + 1 건을 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지 존재)
+	 */
+	public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Object[]> keyOf) {
+		boolean hasMore = fetched.size() > size;
+		List<T> items = hasMore ? fetched.subList(0, size) : fetched;
+		String next = hasMore ? encode(keyOf.apply(items.get(items.size() - 1))) : null;
+		return new CursorPage<>(items, next, hasMore);
+	}
+
+	// 요청 size를 1..MAX_SIZE 범위로 보정
+	public static int clampSize(Integer size) {
+		if (size == null || size <= 0) return DEFAULT_SIZE;
+		return Math.min(size, MAX_SIZE);
+	}
+
+	// 정렬 키 -> base64url 커서 ("\u001f" 구분)
+	public static String encode(Object... keys) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < keys.length; i++) {
+			if (i > 0) sb.append('\u001f');
+			sb.append(keys[i] != null ? keys[i].toString() : "");
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 -> 정렬 키 배열
+	 * @return 커서가 비어 있으면 null (첫 페이지)
+	 * @throws IllegalArgumentException 형식이 잘못된 커서
+	 */
+	public static String[] decode(String cursor, int expectedKeys) {
+		if (cursor == null || cursor.isBlank()) return null;
+		String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		String[] keys = raw.split("\u001f", -1);
+		if (keys.length != expectedKeys) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+import org.apache.ibatis.type.Alias;
+import lombok.Data;
+
+/**
+ * 보드 변경 로그 (리비전별로 변경된 엔티티 ID 기록)
+ */
+@Data
+@Alias("boardChange")
+public class BoardChange {
+	private int teamId;
+	private long revision;
+	private String entityType;   // task, column, comment, file
+	private int entityId;
+	private String changeType;   // UPSERT, DELETE
+	private LocalDateTime changedAt;
+
+	public static final String CHANGE_UPSERT = "UPSERT";
+	public static final String CHANGE_DELETE = "DELETE";
+}
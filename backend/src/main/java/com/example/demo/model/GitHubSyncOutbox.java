@@ -0,0 +1,35 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import org.apache.ibatis.type.Alias;
+
+import java.time.LocalDateTime;
+
+/**
+ * GitHub 동기화 Outbox 엔티티 (Synodos -> GitHub 전송 대기열)
+ */
+@Data
+@Alias("githubSyncOutbox")
+public class GitHubSyncOutbox {
+    private int id;
+    private int taskId;
+    private String opType;            // ISSUE_CREATE, TASK_UPDATE, COMMENT_CREATE
+    private Integer commentId;
+    private Integer memberNo;         // 변경한 멤버 (GitHub 토큰용)
+    private String status;            // PENDING, PROCESSING, FAILED
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 작업 타입 상수
+    public static final String OP_ISSUE_CREATE = "ISSUE_CREATE";
+    public static final String OP_TASK_UPDATE = "TASK_UPDATE";
+    public static final String OP_COMMENT_CREATE = "COMMENT_CREATE";
+
+    // 상태 상수
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_FAILED = "FAILED";
+}
@@ -21,6 +21,8 @@ public class Notification {
     @JsonProperty("isRead")
     private boolean isRead;
     private LocalDateTime createdAt;
+    // 합쳐진 알림 수 (같은 수신자/태스크/타입이 집계 구간 안에 반복되면 한 행에서 증가)
+    private int aggregateCount = 1;
 
     // 조인용 필드
     private String senderName;
@@ -29,6 +31,9 @@ public class Notification {
     private String columnTitle;
     private String taskTitle;
 
+    // 실시간 전송 시 수신자의 읽지 않은 알림 수 (DB 컬럼 아님)
+    private Integer unreadCount;
+
     // 알림 타입 상수
     public static final String TYPE_TEAM_INVITE = "TEAM_INVITE";
     public static final String TYPE_TASK_ASSIGNEE = "TASK_ASSIGNEE";
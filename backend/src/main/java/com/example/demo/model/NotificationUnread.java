@@ -0,0 +1,12 @@
+package com.example.demo.model;
+
+import org.apache.ibatis.type.Alias;
+import lombok.Data;
+
+// 수신자별 읽지 않은 알림 수 (notification_unread)
+@Data
+@Alias("notificationUnread")
+public class NotificationUnread {
+    private int recipientNo;
+    private int unreadCount;
+}
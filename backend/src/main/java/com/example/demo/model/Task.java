@@ -13,6 +13,9 @@ import lombok.Data;
 @Data
 @Alias("task")
 public class Task {
+	// position 간격 (카드 사이에 빈 값을 두어 이동 시 한 행만 수정)
+	public static final int POSITION_GAP = 1024;
+
 	private int taskId;
 
 	@Positive(message = "컬럼 ID는 양수여야 합니다")
@@ -24,7 +27,7 @@ public class Task {
 
 	@Size(max = 5000, message = "설명은 5000자를 초과할 수 없습니다")
 	private String description;
-	private int position;
+	private int position;            // 정렬 키 (POSITION_GAP 간격, 이동 요청에서는 목적 컬럼 내 1부터 시작하는 순서)
 	private LocalDateTime createdAt;
 
 	// Issue Tracker 확장 필드
@@ -55,4 +58,9 @@ public class Task {
 
 	// 복수 검증자 목록 (NEW)
 	private List<TaskVerifier> verifiers;
+
+	// 보드 스냅샷용 필드 (JOIN으로 조회)
+	private Integer commentCount;      // 댓글 수
+	private Integer githubIssueNumber; // 연결된 GitHub Issue 번호
+	private String githubIssueUrl;     // 연결된 GitHub Issue URL
 }
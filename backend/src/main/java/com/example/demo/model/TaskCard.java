@@ -0,0 +1,91 @@
+package com.example.demo.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.type.Alias;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Data;
+
+/**
+ * 태스크 카드 (보드/캘린더/타임라인 목록, WebSocket 이벤트용)
+ * - 설명(description)은 제외하고 hasDescription과 앞부분(descriptionExcerpt)만 전달, 상세는 taskcontent/{taskId}로 조회
+ */
+@Data
+@Alias("taskCard")
+public class TaskCard {
+
+	// 카드에 담는 설명 앞부분 길이 (task.xml의 LEFT(t.description, 200)과 같은 값)
+	public static final int DESCRIPTION_EXCERPT_LENGTH = 200;
+
+	private int taskId;
+	private int columnId;
+	private Integer teamId;
+	private String title;
+	private boolean hasDescription;  // 설명 존재 여부 (카드 아이콘 표시용)
+	private String descriptionExcerpt;  // 설명 앞부분 (목록 표시/검색용)
+	private int position;
+	private LocalDateTime createdAt;
+	private Integer createdBy;
+
+	private Integer assigneeNo;
+	private String assigneeName;
+	private String priority;
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	private LocalDate startDate;
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	private LocalDate dueDate;
+
+	private String workflowStatus;
+	private String rejectionReason;
+	private LocalDateTime rejectedAt;
+	private Integer rejectedBy;
+
+	private List<TaskAssignee> assignees;
+	private List<TaskVerifier> verifiers;
+
+	// 보드 스냅샷용 필드 (JOIN으로 조회)
+	private Integer commentCount;
+	private Integer githubIssueNumber;
+	private String githubIssueUrl;
+
+	// 쓰기 결과(Task)를 이벤트용 카드로 변환
+	public static TaskCard from(Task task) {
+		TaskCard card = new TaskCard();
+		card.setTaskId(task.getTaskId());
+		card.setColumnId(task.getColumnId());
+		card.setTeamId(task.getTeamId());
+		card.setTitle(task.getTitle());
+		card.setHasDescription(task.getDescription() != null && !task.getDescription().isEmpty());
+		card.setDescriptionExcerpt(excerpt(task.getDescription()));
+		card.setPosition(task.getPosition());
+		card.setCreatedAt(task.getCreatedAt());
+		card.setCreatedBy(task.getCreatedBy());
+		card.setAssigneeNo(task.getAssigneeNo());
+		card.setAssigneeName(task.getAssigneeName());
+		card.setPriority(task.getPriority());
+		card.setStartDate(task.getStartDate());
+		card.setDueDate(task.getDueDate());
+		card.setWorkflowStatus(task.getWorkflowStatus());
+		card.setRejectionReason(task.getRejectionReason());
+		card.setRejectedAt(task.getRejectedAt());
+		card.setRejectedBy(task.getRejectedBy());
+		card.setAssignees(task.getAssignees());
+		card.setVerifiers(task.getVerifiers());
+		card.setCommentCount(task.getCommentCount());
+		card.setGithubIssueNumber(task.getGithubIssueNumber());
+		card.setGithubIssueUrl(task.getGithubIssueUrl());
+		return card;
+	}
+
+	private static String excerpt(String description) {
+		// LEFT()와 같이 문자(code point) 단위로 자름
+		if (description == null
+				|| description.codePointCount(0, description.length()) <= DESCRIPTION_EXCERPT_LENGTH) {
+			return description;
+		}
+		return description.substring(0, description.offsetByCodePoints(0, DESCRIPTION_EXCERPT_LENGTH));
+	}
+}
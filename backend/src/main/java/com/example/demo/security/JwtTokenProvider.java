@@ -37,24 +37,21 @@ public class JwtTokenProvider {
 				.compact();
 	}
 
-	public String getUseridFromToken(String token) {
-		Claims claims = Jwts.parser()
+	// 서명/만료 검증 후 클레임 (한 번만 파싱해야 할 때 사용, 실패하면 JwtException)
+	public Claims parseClaims(String token) {
+		return Jwts.parser()
 				.verifyWith(getSigningKey())
 				.build()
 				.parseSignedClaims(token)
 				.getPayload();
+	}
 
-		return claims.getSubject();
+	public String getUseridFromToken(String token) {
+		return parseClaims(token).getSubject();
 	}
 
 	public int getMemberNoFromToken(String token) {
-		Claims claims = Jwts.parser()
-				.verifyWith(getSigningKey())
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-
-		return claims.get("memberNo", Integer.class);
+		return parseClaims(token).get("memberNo", Integer.class);
 	}
 
 	public boolean validateToken(String token) {
@@ -0,0 +1,23 @@
+package com.example.demo.security;
+
+import java.security.Principal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * STOMP 세션 인증 주체 (CONNECT 때 JWT로 한 번 만들어 세션에 보관)
+ * - getName()은 회원번호 문자열 -> 사용자 목적지(/user/{memberNo}/queue/...) 라우팅 키로 사용
+ */
+@Getter
+@AllArgsConstructor
+public class MemberPrincipal implements Principal {
+
+	private final int memberNo;
+	private final String userid;
+
+	@Override
+	public String getName() {
+		return String.valueOf(memberNo);
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.demo.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP CONNECT 인증 (HTTP의 JwtAuthenticationFilter에 해당)
+ * - CONNECT 프레임의 Authorization: Bearer {token} 헤더를 한 번만 검증하고 MemberPrincipal을 세션 사용자로 설정
+ * - 이후 같은 세션의 모든 메시지에는 Spring이 이 주체를 붙여 주므로 메시지마다 토큰/회원 조회를 하지 않음
+ * - require-auth가 true면 토큰 없는/잘못된 CONNECT는 거부 (ERROR 프레임)
+ */
+@Slf4j
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+	private final JwtTokenProvider tokenProvider;
+
+	@Value("${synodos.websocket.require-auth:true}")
+	private boolean requireAuth;
+
+	public StompAuthChannelInterceptor(JwtTokenProvider tokenProvider) {
+		this.tokenProvider = tokenProvider;
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+			return message;
+		}
+		String token = getJwtFromHeaders(accessor);
+		if (token != null) {
+			try {
+				Claims claims = tokenProvider.parseClaims(token);
+				Integer memberNo = claims.get("memberNo", Integer.class);
+				if (memberNo != null) {
+					accessor.setUser(new MemberPrincipal(memberNo, claims.getSubject()));
+					return message;
+				}
+			} catch (JwtException | IllegalArgumentException e) {
+				log.debug("Rejected STOMP token for session {}: {}", accessor.getSessionId(), e.getMessage());
+			}
+		}
+		if (requireAuth) {
+			throw new BadCredentialsException("Invalid or missing STOMP authorization token");
+		}
+		return message;
+	}
+
+	private String getJwtFromHeaders(StompHeaderAccessor accessor) {
+		String bearerToken = accessor.getFirstNativeHeader("Authorization");
+		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+			return bearerToken.substring(7);
+		}
+		return null;
+	}
+}
@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.example.demo.model.SynodosColumn;
+import com.example.demo.model.TaskCard;
+import com.example.demo.model.TaskAssignee;
+import com.example.demo.model.TaskVerifier;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팀별 보드 읽기 캐시 (LRU + 메모리 상한)
+ * - 엔트리는 로딩 시점의 보드 리비전을 가지며, 현재 리비전과 다르면 무효로 취급
+ * - BoardNotificationService가 이벤트를 보낼 때마다 해당 팀 엔트리를 제거
+ * - 목록은 넣을 때와 꺼낼 때 복사 (호출자가 목록을 바꿔도 캐시에는 영향 없음)
+ * - 캐시된 TaskCard 객체는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 함
+ */
+@Slf4j
+@Service
+public class BoardCacheService {
+
+	@Value("${synodos.board-cache.max-teams:200}")
+	private int maxTeams;
+
+	@Value("${synodos.board-cache.max-bytes:67108864}")
+	private long maxBytes;
+
+	// teamId -> 캐시 엔트리 (accessOrder=true 로 LRU 순서 유지)
+	private final LinkedHashMap<Integer, CachedBoard> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalBytes = 0;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	@Data
+	@AllArgsConstructor
+	public static class CachedBoard {
+		private long revision;
+		private List<SynodosColumn> columns;
+		private List<TaskCard> tasks;
+		private long estimatedBytes;
+	}
+
+	/**
+	 * 현재 리비전과 일치하는 엔트리만 반환 (오래된 엔트리는 제거 후 miss 처리)
+	 */
+	public synchronized CachedBoard get(int teamId, long currentRevision) {
+		CachedBoard entry = entries.get(teamId);
+		if (entry != null && entry.getRevision() == currentRevision) {
+			hits.incrementAndGet();
+			return new CachedBoard(entry.getRevision(), new ArrayList<>(entry.getColumns()),
+				new ArrayList<>(entry.getTasks()), entry.getEstimatedBytes());
+		}
+		if (entry != null) {
+			removeEntry(teamId);
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	public synchronized void put(int teamId, long revision, List<SynodosColumn> columns, List<TaskCard> tasks) {
+		long bytes = estimateBytes(columns, tasks);
+		if (bytes > maxBytes) {
+			log.debug("Board cache skip: team {} ({} bytes) exceeds cap", teamId, bytes);
+			return;
+		}
+		removeEntry(teamId);
+		entries.put(teamId, new CachedBoard(revision, new ArrayList<>(columns), new ArrayList<>(tasks), bytes));
+		totalBytes += bytes;
+		evictIfNeeded();
+	}
+
+	// 보드 변경 시 호출 (BoardNotificationService)
+	public synchronized void invalidate(int teamId) {
+		if (removeEntry(teamId) != null) {
+			invalidations.incrementAndGet();
+		}
+	}
+
+	public synchronized Map<String, Object> getStats() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		long total = hitCount + missCount;
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("teams", entries.size());
+		stats.put("maxTeams", maxTeams);
+		stats.put("estimatedBytes", totalBytes);
+		stats.put("maxBytes", maxBytes);
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+		stats.put("evictions", evictions.get());
+		stats.put("invalidations", invalidations.get());
+		return stats;
+	}
+
+	private CachedBoard removeEntry(int teamId) {
+		CachedBoard removed = entries.remove(teamId);
+		if (removed != null) {
+			totalBytes -= removed.getEstimatedBytes();
+		}
+		return removed;
+	}
+
+	// 가장 오래 사용되지 않은 팀부터 제거
+	private void evictIfNeeded() {
+		Iterator<Map.Entry<Integer, CachedBoard>> it = entries.entrySet().iterator();
+		while ((entries.size() > maxTeams || totalBytes > maxBytes) && it.hasNext()) {
+			Map.Entry<Integer, CachedBoard> eldest = it.next();
+			totalBytes -= eldest.getValue().getEstimatedBytes();
+			it.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	// 대략적인 힙 사용량 추정 (문자열은 char당 2바이트 + 객체 헤더)
+	private long estimateBytes(List<SynodosColumn> columns, List<TaskCard> tasks) {
+		long bytes = 64;
+		for (SynodosColumn column : columns) {
+			bytes += 64 + sizeOf(column.getTitle()) + sizeOf(column.getGithubPrefix());
+		}
+		for (TaskCard task : tasks) {
+			bytes += 256 + sizeOf(task.getTitle()) + sizeOf(task.getAssigneeName())
+				+ sizeOf(task.getRejectionReason()) + sizeOf(task.getGithubIssueUrl());
+			if (task.getAssignees() != null) {
+				for (TaskAssignee assignee : task.getAssignees()) {
+					bytes += 96 + sizeOf(assignee.getMemberName()) + sizeOf(assignee.getMemberUserid());
+				}
+			}
+			if (task.getVerifiers() != null) {
+				for (TaskVerifier verifier : task.getVerifiers()) {
+					bytes += 96 + sizeOf(verifier.getMemberName()) + sizeOf(verifier.getMemberUserid())
+						+ sizeOf(verifier.getRejectionReason());
+				}
+			}
+		}
+		return bytes;
+	}
+
+	private long sizeOf(String value) {
+		return value != null ? 40 + 2L * value.length() : 0;
+	}
+}
@@ -0,0 +1,187 @@
+package com.example.demo.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.BoardEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팀별 보드 이벤트 마이크로 배치 발송
+ * - 첫 이벤트가 들어오면 batch-window-ms 뒤에 팀 버퍼를 한 번에 발송
+ * - 같은 엔티티의 연속 변경은 마지막 상태 하나로 합침 (생성 후 수정은 생성 이벤트로 유지)
+ * - 버퍼에 이벤트가 하나뿐이면 기존 형식 그대로, 여러 개면 BATCH 프레임(payload = 이벤트 목록)으로 발송
+ * - batch-window-ms가 0이면 즉시 발송
+ * - 비워진 팀 버퍼는 맵에서 제거 (쉬는 팀이 버퍼를 계속 붙잡지 않도록)
+ */
+@Slf4j
+@Service
+public class BoardEventDispatcher {
+
+	public static final String EVENT_BATCH = "BATCH";
+
+	@Autowired
+	private ClusterEventBus clusterEventBus;
+
+	@Autowired
+	private TaskScheduler taskScheduler;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${synodos.board-events.batch-window-ms:40}")
+	private long batchWindowMs;
+
+	// 버퍼가 이 크기를 넘으면 창을 기다리지 않고 바로 발송
+	@Value("${synodos.board-events.max-batch-size:500}")
+	private int maxBatchSize;
+
+	// teamId -> 발송 대기 중인 이벤트 (key = entityType:entityId, 합칠 수 없는 이벤트는 고유 key)
+	private final Map<Integer, LinkedHashMap<String, BoardEvent>> buffers = new ConcurrentHashMap<>();
+
+	private final AtomicLong uniqueKeys = new AtomicLong();
+	private final AtomicLong enqueued = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong frames = new AtomicLong();
+
+	/**
+	 * 이벤트 등록
+	 * @param entityId 합칠 대상 엔티티 ID (null이면 합치지 않음)
+	 */
+	public void dispatch(BoardEvent event, Integer entityId) {
+		if (batchWindowMs <= 0) {
+			send(event.getTeamId(), event);
+			return;
+		}
+		enqueued.incrementAndGet();
+		int teamId = event.getTeamId();
+		String key = entityId != null
+			? event.getEntityType() + ":" + entityId
+			: "#" + uniqueKeys.incrementAndGet();
+
+		boolean scheduleFlush;
+		boolean flushNow;
+		while (true) {
+			LinkedHashMap<String, BoardEvent> buffer = buffers.computeIfAbsent(teamId, k -> new LinkedHashMap<>());
+			synchronized (buffer) {
+				// flush가 이미 맵에서 뺀 버퍼면 새 버퍼로 다시 시도
+				if (buffers.get(teamId) != buffer) {
+					continue;
+				}
+				scheduleFlush = buffer.isEmpty();
+				BoardEvent previous = buffer.remove(key);
+				if (previous != null) {
+					coalesced.incrementAndGet();
+					event = merge(previous, event);
+				}
+				// 합쳐진 이벤트는 뒤로 보내서 최신 순서를 유지
+				buffer.put(key, event);
+				flushNow = buffer.size() >= maxBatchSize;
+			}
+			break;
+		}
+		if (flushNow) {
+			flush(teamId);
+		} else if (scheduleFlush) {
+			taskScheduler.schedule(() -> flush(teamId), Instant.now().plusMillis(batchWindowMs));
+		}
+	}
+
+	// 생성 이벤트 뒤의 수정/이동은 최신 payload를 가진 생성 이벤트로 유지 (클라이언트가 아직 모르는 엔티티)
+	// 변경 필드(diff) 이벤트는 앞 이벤트의 payload 위에 덮어써서 앞의 변경분이 사라지지 않게 함
+	BoardEvent merge(BoardEvent previous, BoardEvent latest) {
+		boolean created = previous.getEventType().endsWith("_CREATED");
+		if (latest.getEventType().endsWith("_DELETED") || previous.getEventType().endsWith("_DELETED")) {
+			return latest;
+		}
+		Object payload = latest.getPayload();
+		boolean diff = latest.isDiff();
+		if (latest.isDiff()) {
+			JsonNode base = objectMapper.valueToTree(previous.getPayload());
+			if (base instanceof ObjectNode) {
+				((ObjectNode) base).setAll((ObjectNode) objectMapper.valueToTree(latest.getPayload()));
+				payload = base;
+				diff = previous.isDiff();
+			}
+		}
+		if (!created && payload == latest.getPayload()) {
+			return latest;
+		}
+		return new BoardEvent(
+			created ? previous.getEventType() : latest.getEventType(),
+			latest.getEntityType(),
+			payload,
+			latest.getTeamId(),
+			latest.getTimestamp(),
+			latest.getRevision(),
+			diff
+		);
+	}
+
+	private void flush(int teamId) {
+		LinkedHashMap<String, BoardEvent> buffer = buffers.get(teamId);
+		if (buffer == null) {
+			return;
+		}
+		List<BoardEvent> events;
+		synchronized (buffer) {
+			if (buffer.isEmpty()) {
+				buffers.remove(teamId, buffer);
+				return;
+			}
+			events = new ArrayList<>(buffer.values());
+			buffer.clear();
+			buffers.remove(teamId, buffer);
+		}
+		if (events.size() == 1) {
+			send(teamId, events.get(0));
+			return;
+		}
+		long revision = 0;
+		for (BoardEvent event : events) {
+			revision = Math.max(revision, event.getRevision());
+		}
+		send(teamId, new BoardEvent(
+			EVENT_BATCH,
+			"batch",
+			events,
+			teamId,
+			System.currentTimeMillis(),
+			revision,
+			false
+		));
+	}
+
+	private void send(int teamId, BoardEvent event) {
+		try {
+			frames.incrementAndGet();
+			clusterEventBus.broadcast("/topic/team/" + teamId, event);
+		} catch (Exception e) {
+			log.error("Failed to send board event frame to team {}: {}", teamId, e.getMessage());
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("batchWindowMs", batchWindowMs);
+		stats.put("pendingTeams", buffers.size());
+		stats.put("enqueued", enqueued.get());
+		stats.put("coalesced", coalesced.get());
+		stats.put("frames", frames.get());
+		return stats;
+	}
+}
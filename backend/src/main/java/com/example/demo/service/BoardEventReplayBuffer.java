@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.BoardEvent;
+
+/**
+ * 팀별 최근 보드 이벤트 링 버퍼 (재연결 시 놓친 이벤트 재전송용)
+ * - 이벤트는 보드 리비전으로 식별하며, 팀당 replay-size 개까지 보관 (오래된 것부터 제거)
+ * - floor: 버퍼가 빠짐없이 덮고 있는 구간의 시작 리비전 (since가 이보다 작으면 스냅샷 필요)
+ * - 팀 수도 replay-max-teams로 제한 (LRU)
+ */
+@Service
+public class BoardEventReplayBuffer {
+
+	@Value("${synodos.board-events.replay-size:256}")
+	private int replaySize;
+
+	@Value("${synodos.board-events.replay-max-teams:500}")
+	private int maxTeams;
+
+	private static class TeamBuffer {
+		private final Deque<BoardEvent> events = new ArrayDeque<>();
+		private long floor;
+
+		TeamBuffer(long floor) {
+			this.floor = floor;
+		}
+	}
+
+	private final LinkedHashMap<Integer, TeamBuffer> buffers = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, TeamBuffer> eldest) {
+			return size() > maxTeams;
+		}
+	};
+
+	/**
+	 * 이벤트 추가
+	 * @param previousRevision 이 이벤트 직전의 보드 리비전 (버퍼를 새로 만들 때 floor로 사용)
+	 */
+	public synchronized void append(BoardEvent event, long previousRevision) {
+		TeamBuffer buffer = buffers.computeIfAbsent(event.getTeamId(), k -> new TeamBuffer(previousRevision));
+		buffer.events.addLast(event);
+		while (buffer.events.size() > replaySize) {
+			BoardEvent evicted = buffer.events.pollFirst();
+			buffer.floor = Math.max(buffer.floor, evicted.getRevision());
+		}
+	}
+
+	// 팀 버퍼 제거 (다른 노드 이벤트를 놓쳤을 때 - 이후 replay 요청은 스냅샷으로)
+	public synchronized void reset(int teamId) {
+		buffers.remove(teamId);
+	}
+
+	/**
+	 * since 리비전 이후 이벤트
+	 * @return 버퍼로 메울 수 없는 구간이면 null (스냅샷 필요)
+	 */
+	public synchronized List<BoardEvent> since(int teamId, long since, long currentRevision) {
+		if (since >= currentRevision) {
+			return new ArrayList<>();
+		}
+		TeamBuffer buffer = buffers.get(teamId);
+		if (buffer == null || since < buffer.floor) {
+			return null;
+		}
+		List<BoardEvent> missed = new ArrayList<>();
+		for (BoardEvent event : buffer.events) {
+			if (event.getRevision() > since) {
+				missed.add(event);
+			}
+		}
+		missed.sort(Comparator.comparingLong(BoardEvent::getRevision));
+		return missed;
+	}
+}
@@ -1,20 +1,161 @@
 package com.example.demo.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.demo.dao.BoardChangeDao;
 import com.example.demo.dto.BoardEvent;
+import com.example.demo.dto.ClusterMessage;
+import com.example.demo.model.BoardChange;
 import com.example.demo.model.SynodosColumn;
 import com.example.demo.model.Task;
+import com.example.demo.model.TaskCard;
 import com.example.demo.model.Comment;
 import com.example.demo.model.ProjectFile;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class BoardNotificationService {
 
 	@Autowired
-	private SimpMessagingTemplate messagingTemplate;
+	private BoardEventDispatcher eventDispatcher;
+
+	@Autowired
+	private BoardEventReplayBuffer replayBuffer;
+
+	@Autowired
+	private BoardCacheService boardCache;
+
+	@Autowired
+	private BoardChangeDao boardChangeDao;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// 변경 기록용 별도 트랜잭션 (커밋 후 호출되므로 원래 트랜잭션과 분리)
+	private TransactionTemplate changeTransaction;
+
+	@Value("${synodos.board-events.diff-cache-size:10000}")
+	private int diffCacheSize;
+
+	// 쓰기 결과(RETURNING)에는 채워지지 않는 조회 전용 필드 - null이면 "변경 없음"으로 취급
+	private static final Set<String> ENRICHED_TASK_FIELDS = Set.of(
+		"assignees", "verifiers", "commentCount", "githubIssueNumber", "githubIssueUrl");
+
+	// 보드 이벤트 목적지 (/topic/team/{teamId})
+	private static final Pattern BOARD_TOPIC = Pattern.compile("^/topic/team/\\d+$");
+
+	// teamId -> 보드 리비전 (board_revision 테이블의 메모리 사본, 조회 시 DB 접근 없이 사용)
+	private final Map<Integer, AtomicLong> teamRevisions = new ConcurrentHashMap<>();
+
+	// taskId -> 마지막으로 발송한 카드 상태 (TASK_UPDATED diff 기준, LRU)
+	private final Map<Integer, ObjectNode> lastTaskCards = new LinkedHashMap<>(1024, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, ObjectNode> eldest) {
+			return size() > diffCacheSize;
+		}
+	};
+
+	@PostConstruct
+	public void init() {
+		changeTransaction = new TransactionTemplate(transactionManager);
+		changeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	// 현재 보드 리비전 조회 (스냅샷 응답, 캐시 유효성 확인에 사용)
+	public long getRevision(int teamId) {
+		return teamRevisions.computeIfAbsent(teamId, k -> new AtomicLong(loadRevision(k))).get();
+	}
+
+	private long loadRevision(int teamId) {
+		try {
+			Long revision = boardChangeDao.findRevision(teamId);
+			return revision != null ? revision : 0L;
+		} catch (Exception e) {
+			log.warn("Failed to load board revision for team {}: {}", teamId, e.getMessage());
+			return 0L;
+		}
+	}
+
+	/**
+	 * 리비전 증가 + 변경 엔티티 기록을 별도의 짧은 트랜잭션으로 커밋하고 새 리비전 반환 (기록할 엔티티가 없거나 실패하면 0)
+	 * - 쓰기 트랜잭션 안에서 하면 팀 리비전 행 잠금을 커밋까지 잡아 같은 보드의 쓰기가 모두 가장 느린 트랜잭션 뒤로 줄을 섬
+	 * - 실패해도 원래 트랜잭션(이미 커밋됨)에 영향 없고 이벤트 발송은 계속
+	 */
+	private long recordChanges(int teamId, String eventType, String entityType, Object payload) {
+		try {
+			Long revision = changeTransaction.execute(status -> recordChange(teamId, eventType, entityType, payload));
+			return revision != null ? revision : 0L;
+		} catch (Exception e) {
+			log.error("Failed to record board change for team {} ({}): {}", teamId, eventType, e.getMessage());
+			return 0L;
+		}
+	}
+
+	private long recordChange(int teamId, String eventType, String entityType, Object payload) {
+		if (payload instanceof List) {
+			// 목록 payload는 항목마다 기록하고 마지막 리비전을 사용
+			long revision = 0L;
+			for (Object item : (List<?>) payload) {
+				revision = Math.max(revision, recordChange(teamId, eventType, entityType, item));
+			}
+			return revision;
+		}
+		Integer entityId = entityIdOf(payload);
+		if (entityId == null) {
+			return 0L;
+		}
+		BoardChange change = new BoardChange();
+		change.setTeamId(teamId);
+		change.setEntityType(entityType);
+		change.setEntityId(entityId);
+		change.setChangeType(eventType.endsWith("_DELETED") ? BoardChange.CHANGE_DELETE : BoardChange.CHANGE_UPSERT);
+		return boardChangeDao.recordChange(change);
+	}
+
+	private Integer entityIdOf(Object payload) {
+		if (payload instanceof Integer) {
+			return (Integer) payload;
+		} else if (payload instanceof TaskCard) {
+			return ((TaskCard) payload).getTaskId();
+		} else if (payload instanceof Task) {
+			return ((Task) payload).getTaskId();
+		} else if (payload instanceof SynodosColumn) {
+			return ((SynodosColumn) payload).getColumnId();
+		} else if (payload instanceof Comment) {
+			return ((Comment) payload).getCommentId();
+		} else if (payload instanceof ProjectFile) {
+			return ((ProjectFile) payload).getFileId();
+		} else if (payload instanceof JsonNode && ((JsonNode) payload).hasNonNull("taskId")) {
+			return ((JsonNode) payload).get("taskId").asInt();
+		}
+		return null;
+	}
 
 	// Column Events
 	public void notifyColumnCreated(SynodosColumn column) {
@@ -34,12 +175,14 @@ public class BoardNotificationService {
 	}
 
 	// Task Events
+	// 태스크 이벤트는 설명을 뺀 카드(TaskCard)로 발송
 	public void notifyTaskCreated(Task task, int teamId) {
-		sendBoardEvent(teamId, "TASK_CREATED", "task", task);
+		sendBoardEvent(teamId, "TASK_CREATED", "task", TaskCard.from(task));
 	}
 
+	// 수정 이벤트는 바뀐 필드만 발송 (diff)
 	public void notifyTaskUpdated(Task task, int teamId) {
-		sendBoardEvent(teamId, "TASK_UPDATED", "task", task);
+		sendTaskDiff(teamId, "TASK_UPDATED", TaskCard.from(task));
 	}
 
 	public void notifyTaskDeleted(int teamId, int taskId) {
@@ -47,7 +190,16 @@ public class BoardNotificationService {
 	}
 
 	public void notifyTaskMoved(Task task, int teamId) {
-		sendBoardEvent(teamId, "TASK_MOVED", "task", task);
+		sendBoardEvent(teamId, "TASK_MOVED", "task", TaskCard.from(task));
+	}
+
+	// 여러 카드 이동 (일괄 순서 변경, 컬럼 재배치) - payload는 태스크 목록
+	public void notifyTasksMoved(List<Task> tasks, int teamId) {
+		List<TaskCard> cards = new ArrayList<>(tasks.size());
+		for (Task task : tasks) {
+			cards.add(TaskCard.from(task));
+		}
+		sendBoardEvent(teamId, "TASK_MOVED", "task", cards);
 	}
 
 	// Comment Events
@@ -66,18 +218,184 @@ public class BoardNotificationService {
 
 	// Task Date Events (for Timeline sync)
 	public void notifyTaskDatesChanged(Task task, int teamId) {
-		sendBoardEvent(teamId, "TASK_DATES_CHANGED", "task", task);
+		sendTaskDiff(teamId, "TASK_DATES_CHANGED", TaskCard.from(task));
 	}
 
+	/**
+	 * 마지막으로 발송한 카드와 비교해 바뀐 필드만 발송
+	 * - 이전 상태를 모르면 조회 전용 필드를 뺀 전체 필드를 diff로 보냄 (클라이언트는 병합하므로 안전)
+	 * - 비교/기준 갱신은 커밋 후에 (롤백된 값이 기준으로 남지 않도록)
+	 */
+	private void sendTaskDiff(int teamId, String eventType, TaskCard card) {
+		afterCommit(() -> publish(teamId, eventType, "task", taskDiff(card), true));
+	}
+
+	private ObjectNode taskDiff(TaskCard card) {
+		ObjectNode current = objectMapper.valueToTree(card);
+		ObjectNode diff = objectMapper.createObjectNode();
+		diff.put("taskId", card.getTaskId());
+		synchronized (lastTaskCards) {
+			ObjectNode previous = lastTaskCards.get(card.getTaskId());
+			current.fields().forEachRemaining(field -> {
+				JsonNode value = field.getValue();
+				if (ENRICHED_TASK_FIELDS.contains(field.getKey()) && value.isNull()) {
+					return;
+				}
+				if (previous != null && value.equals(previous.get(field.getKey()))) {
+					return;
+				}
+				diff.set(field.getKey(), value);
+			});
+			ObjectNode merged = previous != null ? previous.deepCopy() : objectMapper.createObjectNode();
+			merged.setAll(diff);
+			lastTaskCards.put(card.getTaskId(), merged);
+		}
+		return diff;
+	}
+
+	// 전체 카드 이벤트(생성/이동/삭제)를 diff 기준에 반영
+	private void rememberTaskCards(Object payload) {
+		synchronized (lastTaskCards) {
+			for (Object item : payload instanceof List ? (List<?>) payload : List.of(payload)) {
+				if (item instanceof TaskCard) {
+					lastTaskCards.put(((TaskCard) item).getTaskId(), objectMapper.valueToTree(item));
+				} else if (item instanceof Integer) {
+					lastTaskCards.remove(item);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 변경 기록/리비전 반영/캐시 무효화/재전송 버퍼/발송은 모두 쓰기 트랜잭션 커밋 후에
+	 * - 커밋 전에 리비전을 올리면 동시에 보드를 읽는 요청이 새 리비전으로 이전 상태를 캐시하거나 스냅샷에 실음
+	 * - 롤백된 쓰기는 변경 기록도 이벤트도 남기지 않음
+	 */
 	private void sendBoardEvent(int teamId, String eventType, String entityType, Object payload) {
+		afterCommit(() -> publish(teamId, eventType, entityType, payload, false));
+	}
+
+	private void publish(int teamId, String eventType, String entityType, Object payload, boolean diff) {
+		AtomicLong current = teamRevisions.computeIfAbsent(teamId, k -> new AtomicLong(loadRevision(k)));
+		long previousRevision = current.get();
+		// 메모리 리비전은 변경 기록이 커밋된 뒤에만 올림
+		long revision = current.accumulateAndGet(recordChanges(teamId, eventType, entityType, payload), Math::max);
+		boardCache.invalidate(teamId);
+		if (!diff && "task".equals(entityType)) {
+			rememberTaskCards(payload);
+		}
 		BoardEvent event = new BoardEvent(
 			eventType,
 			entityType,
 			payload,
 			teamId,
-			System.currentTimeMillis()
+			System.currentTimeMillis(),
+			revision,
+			diff
 		);
-		String destination = "/topic/team/" + teamId;
-		messagingTemplate.convertAndSend(destination, event);
+		// 재연결 클라이언트용 재전송 버퍼에는 합치기 전 원본 이벤트를 순서대로 보관
+		replayBuffer.append(event, previousRevision);
+		// 발송은 팀별 배치 창에 맞춰 (같은 엔티티 변경은 합쳐짐)
+		eventDispatcher.dispatch(event, payload instanceof List ? null : entityIdOf(payload));
+	}
+
+	// 쓰기 트랜잭션 안이면 커밋 후에, 아니면 바로 실행 (NotificationService.dispatch와 같은 방식)
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			runSafely(action);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				runSafely(action);
+			}
+		});
+	}
+
+	// 이미 커밋된 쓰기를 실패로 만들지 않도록 발송 오류는 로그만 남김
+	private void runSafely(Runnable action) {
+		try {
+			action.run();
+		} catch (Exception e) {
+			log.error("Failed to publish board event: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 노드에서 발생한 보드 이벤트 수신 시 이 노드의 리비전 사본과 캐시를 맞춤
+	 */
+	@EventListener
+	public void onClusterMessage(ClusterMessage message) {
+		if (message.getPayload() != null
+				&& ClusterEventBus.EVENT_RESYNC.equals(message.getPayload().path("eventType").asText())
+				&& BOARD_TOPIC.matcher(String.valueOf(message.getDestination())).matches()) {
+			resetTeam(message.getPayload().path("teamId").asInt());
+			return;
+		}
+		if (message.getPayload() == null || !message.getPayload().hasNonNull("revision")
+				|| !message.getPayload().hasNonNull("teamId")) {
+			return;
+		}
+		int teamId = message.getPayload().get("teamId").asInt();
+		long revision = message.getPayload().get("revision").asLong();
+		AtomicLong current = teamRevisions.get(teamId);
+		if (current != null) {
+			current.accumulateAndGet(revision, Math::max);
+		}
+		boardCache.invalidate(teamId);
+		appendRemoteEvents(message.getPayload());
+	}
+
+	/**
+	 * 다른 노드가 이 팀 이벤트 발행에 실패함 (RESYNC) - 이 노드가 놓친 변경이 있으므로 팀의 로컬 상태를 버림
+	 * - 리비전은 다음 조회 때 DB에서 다시 읽고, 재전송 버퍼가 없으므로 replay 요청은 스냅샷으로 넘어감
+	 * - diff 기준 카드는 팀별로 나뉘어 있지 않으므로 모두 버림 (다음 수정 이벤트는 전체 필드)
+	 */
+	private void resetTeam(int teamId) {
+		teamRevisions.remove(teamId);
+		boardCache.invalidate(teamId);
+		replayBuffer.reset(teamId);
+		synchronized (lastTaskCards) {
+			lastTaskCards.clear();
+		}
+	}
+
+	// 다른 노드 이벤트도 재전송 버퍼에 보관 (BATCH 프레임은 개별 이벤트로 풀어서)
+	private void appendRemoteEvents(JsonNode frame) {
+		try {
+			if (BoardEventDispatcher.EVENT_BATCH.equals(frame.path("eventType").asText())) {
+				for (JsonNode item : frame.path("payload")) {
+					appendRemoteEvents(item);
+				}
+				return;
+			}
+			forgetRemoteTaskCards(frame);
+			BoardEvent event = objectMapper.treeToValue(frame, BoardEvent.class);
+			replayBuffer.append(event, event.getRevision() - 1);
+		} catch (Exception e) {
+			log.debug("Failed to buffer remote board event: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 노드가 바꾼 태스크는 이 노드의 diff 기준 카드를 버림
+	 * - 남겨 두면 원래 값으로 되돌린 필드가 "안 바뀜"으로 빠져서 클라이언트에 다른 노드의 값이 남음
+	 * - 기준이 없으면 다음 TASK_UPDATED는 전체 필드를 보냄
+	 */
+	private void forgetRemoteTaskCards(JsonNode event) {
+		if (!event.path("eventType").asText().startsWith("TASK_")) {
+			return;
+		}
+		JsonNode payload = event.path("payload");
+		synchronized (lastTaskCards) {
+			for (JsonNode item : payload.isArray() ? payload : List.of(payload)) {
+				// TASK_DELETED는 payload가 taskId, 나머지는 카드(또는 카드 목록)
+				JsonNode taskId = item.isNumber() ? item : item.path("taskId");
+				if (taskId.isNumber()) {
+					lastTaskCards.remove(taskId.asInt());
+				}
+			}
+		}
 	}
 }
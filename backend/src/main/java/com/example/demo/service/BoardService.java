@@ -0,0 +1,340 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.demo.dao.BoardChangeDao;
+import com.example.demo.dao.CommentDao;
+import com.example.demo.dao.FileDao;
+import com.example.demo.dao.SynodosColumnDao;
+import com.example.demo.dao.TaskAssigneeDao;
+import com.example.demo.dao.TaskDao;
+import com.example.demo.dao.TaskFavoriteDao;
+import com.example.demo.dao.TaskVerifierDao;
+import com.example.demo.dao.TeamDao;
+import com.example.demo.dto.BoardChanges;
+import com.example.demo.dto.BoardEvent;
+import com.example.demo.dto.BoardReplay;
+import com.example.demo.dto.BoardSnapshot;
+import com.example.demo.model.BoardChange;
+import com.example.demo.model.SynodosColumn;
+import com.example.demo.model.TaskCard;
+import com.example.demo.model.TaskAssignee;
+import com.example.demo.model.TaskVerifier;
+import com.example.demo.model.Team;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팀 보드 조회 서비스
+ * - 컬럼/태스크/담당자/검증자를 고정된 4개 쿼리로 조회하여 스냅샷 구성
+ * - 조회 결과는 BoardCacheService에 팀 단위로 캐시되고, 보드 리비전이 바뀌면 다시 로딩
+ */
+@Slf4j
+@Service
+public class BoardService {
+
+	@Autowired
+	private SynodosColumnDao columnDao;
+
+	@Autowired
+	private TaskDao taskDao;
+
+	@Autowired
+	private TaskAssigneeDao taskAssigneeDao;
+
+	@Autowired
+	private TaskVerifierDao taskVerifierDao;
+
+	@Autowired
+	private TaskFavoriteDao taskFavoriteDao;
+
+	@Autowired
+	private TeamDao teamDao;
+
+	@Autowired
+	private CommentDao commentDao;
+
+	@Autowired
+	private FileDao fileDao;
+
+	@Autowired
+	private BoardChangeDao boardChangeDao;
+
+	@Autowired
+	private BoardNotificationService notificationService;
+
+	@Autowired
+	private BoardCacheService boardCache;
+
+	@Autowired
+	private BoardEventReplayBuffer replayBuffer;
+
+	@Value("${synodos.board-cache.warmup-teams:20}")
+	private int warmupTeams;
+
+	@Value("${synodos.board-change.retention-days:7}")
+	private int changeRetentionDays;
+
+	// Helper method to get current member's no from security context
+	private Integer getCurrentMemberNo() {
+		try {
+			Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+			if (auth != null && auth.getCredentials() instanceof Integer) {
+				return (Integer) auth.getCredentials();
+			}
+		} catch (Exception e) {
+			log.debug("Could not get current member no: {}", e.getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * 팀 보드 스냅샷 조회
+	 * - 리비전을 쿼리보다 먼저 읽으므로, 클라이언트는 revision 이후의 이벤트만 적용하면 됨
+	 * - REPEATABLE_READ로 모든 쿼리가 같은 시점의 데이터를 보도록 보장
+	 * - 팀 정보/멤버도 함께 담아서 보드 화면을 이 요청 하나로 그림
+	 * - 캐시 적중 시 팀/멤버/요청자의 즐겨찾기 조회만 발생
+	 * @return 없는 팀이면 null
+	 */
+	@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public BoardSnapshot getSnapshot(int teamId, Integer memberNo) {
+		if (memberNo == null) {
+			memberNo = getCurrentMemberNo();
+		}
+
+		Team team = teamDao.findById(teamId);
+		if (team == null) {
+			return null;
+		}
+		BoardCacheService.CachedBoard board = loadBoard(teamId);
+
+		List<Integer> favoriteTaskIds = memberNo != null
+			? taskFavoriteDao.listTaskIdsByMemberAndTeam(memberNo, teamId)
+			: new ArrayList<>();
+
+		return new BoardSnapshot(teamId, board.getRevision(), team, teamDao.findMembers(teamId),
+			board.getColumns(), board.getTasks(), favoriteTaskIds, System.currentTimeMillis());
+	}
+
+	/**
+	 * since 리비전 이후의 보드 변경분 조회
+	 * - 재접속한 클라이언트가 스냅샷 전체 대신 바뀐 카드만 받아서 적용
+	 * - 변경 로그가 since까지 남아 있지 않으면 resetRequired로 스냅샷 재요청 유도
+	 */
+	@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public BoardChanges getChanges(int teamId, long since) {
+		BoardChanges result = new BoardChanges();
+		result.setTeamId(teamId);
+		result.setSince(since);
+
+		Long current = boardChangeDao.findRevision(teamId);
+		long revision = current != null ? current : 0L;
+		result.setRevision(revision);
+
+		if (since >= revision) {
+			// 클라이언트가 서버보다 앞서 있으면 (DB 초기화 등) 스냅샷부터 다시
+			result.setResetRequired(since > revision);
+			return result;
+		}
+
+		Long oldest = boardChangeDao.findOldestRevision(teamId);
+		if (oldest == null || oldest > since + 1) {
+			result.setResetRequired(true);
+			return result;
+		}
+
+		// 같은 엔티티의 변경은 마지막 것만 남김
+		Map<String, BoardChange> latest = new LinkedHashMap<>();
+		for (BoardChange change : boardChangeDao.listSince(teamId, since)) {
+			latest.put(change.getEntityType() + ":" + change.getEntityId(), change);
+			if (change.getRevision() > revision) {
+				revision = change.getRevision();
+			}
+		}
+		result.setRevision(revision);
+
+		Map<String, List<Integer>> upserted = new HashMap<>();
+		for (BoardChange change : latest.values()) {
+			if (BoardChange.CHANGE_DELETE.equals(change.getChangeType())) {
+				deletedIdsOf(result, change.getEntityType()).add(change.getEntityId());
+			} else {
+				upserted.computeIfAbsent(change.getEntityType(), k -> new ArrayList<>()).add(change.getEntityId());
+			}
+		}
+
+		List<Integer> taskIds = upserted.getOrDefault("task", new ArrayList<>());
+		if (!taskIds.isEmpty()) {
+			List<TaskCard> tasks = taskDao.listBoardCardsByIds(teamId, taskIds);
+			populateCards(tasks, taskIds);
+			result.setTasks(tasks);
+			// 조회되지 않은 태스크는 다른 팀 컬럼으로 이동했거나 삭제된 것
+			List<Integer> found = new ArrayList<>();
+			for (TaskCard task : tasks) {
+				found.add(task.getTaskId());
+			}
+			for (Integer taskId : taskIds) {
+				if (!found.contains(taskId)) {
+					result.getDeletedTaskIds().add(taskId);
+				}
+			}
+		}
+
+		List<Integer> columnIds = upserted.getOrDefault("column", new ArrayList<>());
+		if (!columnIds.isEmpty()) {
+			for (SynodosColumn column : columnDao.listByTeam(teamId)) {
+				if (columnIds.contains(column.getColumnId())) {
+					result.getColumns().add(column);
+				}
+			}
+		}
+
+		List<Integer> commentIds = upserted.getOrDefault("comment", new ArrayList<>());
+		if (!commentIds.isEmpty()) {
+			result.setComments(commentDao.listByIds(commentIds));
+		}
+
+		List<Integer> fileIds = upserted.getOrDefault("file", new ArrayList<>());
+		if (!fileIds.isEmpty()) {
+			result.setFiles(fileDao.listByIds(fileIds));
+		}
+
+		return result;
+	}
+
+	/**
+	 * 재연결한 WebSocket 클라이언트가 놓친 이벤트 (메모리 링 버퍼에서 조회, DB 접근 없음)
+	 * - 클라이언트는 먼저 구독한 뒤 요청하므로, 이 사이에 발생한 이벤트는 구독으로도 받음 (중복 적용은 무해)
+	 * - 버퍼가 since까지 덮지 못하면 resetRequired (스냅샷 또는 변경분 조회로 복구)
+	 */
+	public BoardReplay getReplay(int teamId, long since) {
+		BoardReplay replay = new BoardReplay();
+		replay.setTeamId(teamId);
+		replay.setSince(since);
+		long revision = notificationService.getRevision(teamId);
+		replay.setRevision(revision);
+		List<BoardEvent> events = since > revision ? null : replayBuffer.since(teamId, since, revision);
+		if (events == null) {
+			replay.setResetRequired(true);
+		} else {
+			replay.setEvents(events);
+		}
+		return replay;
+	}
+
+	private List<Integer> deletedIdsOf(BoardChanges result, String entityType) {
+		switch (entityType) {
+			case "column":
+				return result.getDeletedColumnIds();
+			case "comment":
+				return result.getDeletedCommentIds();
+			case "file":
+				return result.getDeletedFileIds();
+			default:
+				return result.getDeletedTaskIds();
+		}
+	}
+
+	// 변경된 태스크 카드에 담당자/검증자 채우기 (태스크 수와 무관하게 2개 쿼리)
+	private void populateCards(List<TaskCard> tasks, List<Integer> taskIds) {
+		Map<Integer, List<TaskAssignee>> assigneesByTask = new HashMap<>();
+		for (TaskAssignee assignee : taskAssigneeDao.listByTaskIds(taskIds)) {
+			assigneesByTask.computeIfAbsent(assignee.getTaskId(), k -> new ArrayList<>()).add(assignee);
+		}
+
+		Map<Integer, List<TaskVerifier>> verifiersByTask = new HashMap<>();
+		for (TaskVerifier verifier : taskVerifierDao.listByTaskIds(taskIds)) {
+			verifiersByTask.computeIfAbsent(verifier.getTaskId(), k -> new ArrayList<>()).add(verifier);
+		}
+
+		for (TaskCard task : tasks) {
+			task.setAssignees(assigneesByTask.getOrDefault(task.getTaskId(), new ArrayList<>()));
+			task.setVerifiers(verifiersByTask.getOrDefault(task.getTaskId(), new ArrayList<>()));
+		}
+	}
+
+	// 팀 태스크 목록 (담당자/검증자 포함, 캐시 사용)
+	public List<TaskCard> getBoardTasks(int teamId) {
+		return loadBoard(teamId).getTasks();
+	}
+
+	// 캐시 통계 (hit/miss/eviction)
+	public Map<String, Object> getCacheStats() {
+		return boardCache.getStats();
+	}
+
+	// 캐시 확인 후 없거나 오래된 경우 DB에서 로딩
+	private BoardCacheService.CachedBoard loadBoard(int teamId) {
+		long revision = notificationService.getRevision(teamId);
+		BoardCacheService.CachedBoard cached = boardCache.get(teamId, revision);
+		if (cached != null) {
+			return cached;
+		}
+
+		List<SynodosColumn> columns = columnDao.listByTeam(teamId);
+		List<TaskCard> tasks = taskDao.listBoardCards(teamId);
+
+		Map<Integer, List<TaskAssignee>> assigneesByTask = new HashMap<>();
+		for (TaskAssignee assignee : taskAssigneeDao.listByTeam(teamId)) {
+			assigneesByTask.computeIfAbsent(assignee.getTaskId(), k -> new ArrayList<>()).add(assignee);
+		}
+
+		Map<Integer, List<TaskVerifier>> verifiersByTask = new HashMap<>();
+		for (TaskVerifier verifier : taskVerifierDao.listByTeam(teamId)) {
+			verifiersByTask.computeIfAbsent(verifier.getTaskId(), k -> new ArrayList<>()).add(verifier);
+		}
+
+		for (TaskCard task : tasks) {
+			task.setAssignees(assigneesByTask.getOrDefault(task.getTaskId(), new ArrayList<>()));
+			task.setVerifiers(verifiersByTask.getOrDefault(task.getTaskId(), new ArrayList<>()));
+		}
+
+		boardCache.put(teamId, revision, columns, tasks);
+		return new BoardCacheService.CachedBoard(revision, columns, tasks, 0);
+	}
+
+	/**
+	 * 서버 시작 시 최근 활동이 있었던 팀의 보드를 미리 캐시
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUpCache() {
+		if (warmupTeams <= 0) {
+			return;
+		}
+		try {
+			List<Integer> teamIds = teamDao.listRecentlyActiveTeamIds(warmupTeams);
+			for (Integer teamId : teamIds) {
+				loadBoard(teamId);
+			}
+			log.info("Board cache warmed up for {} teams", teamIds.size());
+		} catch (Exception e) {
+			// 워밍업 실패는 서비스 시작을 막지 않음
+			log.warn("Board cache warm-up failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 보관 기간이 지난 보드 변경 로그 정리 (매일 새벽 4시)
+	 * - 정리된 구간보다 오래된 리비전으로 요청한 클라이언트는 스냅샷을 다시 받음
+	 */
+	@Scheduled(cron = "0 0 4 * * *")
+	public void pruneChangeLog() {
+		try {
+			int deleted = boardChangeDao.deleteOlderThan(changeRetentionDays);
+			log.info("Pruned {} board change rows older than {} days", deleted, changeRetentionDays);
+		} catch (Exception e) {
+			log.error("Board change log pruning failed: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,255 @@
+package com.example.demo.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.model.ChatMessage;
+
+/**
+ * 팀별 최근 채팅 링 버퍼 (발신자 이름 포함)
+ * - 팀당 recent-size 개까지 message_id 순으로 보관하며, 항상 "가장 최근 메시지부터 빈틈없는 구간"만 가짐
+ * - complete: DB에 이 버퍼보다 오래된 메시지가 없음 (버퍼만으로 끝까지 응답 가능)
+ * - 팀 수는 recent-max-teams로 제한 (LRU)
+ * - 다른 노드에서 온 메시지는 그 노드의 write-behind가 저장할 때까지 DB 조회에 안 보이므로
+ *   settle 시간(flush 간격 + 최대 재시도 대기) 동안 따로 기억해 두고 DB 결과에 합침
+ * - 캐시된 ChatMessage 객체는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 함
+ */
+@Service
+public class ChatRecentCache {
+
+	// 로딩 중 새 메시지/삭제가 끼어들었는지 판단하는 팀별(스트라이프) 쓰기 버전
+	private static final int VERSION_STRIPES = 64;
+
+	@Value("${synodos.chat.recent-size:100}")
+	private int recentSize;
+
+	@Value("${synodos.chat.recent-max-teams:1000}")
+	private int maxTeams;
+
+	@Value("${synodos.chat.flush-interval-ms:100}")
+	private long flushIntervalMs;
+
+	@Value("${synodos.chat.flush-max-backoff-ms:10000}")
+	private long maxBackoffMs;
+
+	private static class TeamRing {
+		private final Deque<ChatMessage> messages;
+		private boolean complete;
+
+		TeamRing(List<ChatMessage> messages, boolean complete) {
+			this.messages = new ArrayDeque<>(messages);
+			this.complete = complete;
+		}
+	}
+
+	private final LinkedHashMap<Integer, TeamRing> rings = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, TeamRing> eldest) {
+			return size() > maxTeams;
+		}
+	};
+
+	private static class Arrival {
+		private final ChatMessage message;
+		private final long arrivedAt;
+
+		Arrival(ChatMessage message, long arrivedAt) {
+			this.message = message;
+			this.arrivedAt = arrivedAt;
+		}
+	}
+
+	// 팀별 최근 원격 메시지 (도착 순) - 아직 원래 노드의 DB에 저장되지 않았을 수 있음
+	private final LinkedHashMap<Integer, Deque<Arrival>> arrivals = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Deque<Arrival>> eldest) {
+			return size() > maxTeams;
+		}
+	};
+
+	private final AtomicLongArray writeVersions = new AtomicLongArray(VERSION_STRIPES);
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong staleLoads = new AtomicLong();
+
+	public int getRecentSize() {
+		return recentSize;
+	}
+
+	// DB 조회 전에 받아 두었다가 load()에 넘김
+	public long version(int teamId) {
+		return writeVersions.get(stripe(teamId));
+	}
+
+	/**
+	 * 버퍼에서 메시지 조회 (오래된 순)
+	 * @param beforeId null이면 최신 limit개, 아니면 beforeId 미만 중 최신 limit개
+	 * @return 버퍼만으로 채울 수 없으면 null (DB 조회 필요)
+	 */
+	public synchronized List<ChatMessage> slice(int teamId, Integer beforeId, int limit) {
+		TeamRing ring = rings.get(teamId);
+		if (ring == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		List<ChatMessage> result = new ArrayList<>(Math.min(limit, ring.messages.size()));
+		Iterator<ChatMessage> it = ring.messages.descendingIterator();
+		while (it.hasNext() && result.size() < limit) {
+			ChatMessage message = it.next();
+			if (beforeId == null || message.getMessageId() < beforeId) {
+				result.add(message);
+			}
+		}
+		if (result.size() < limit && !ring.complete) {
+			misses.incrementAndGet();
+			return null;
+		}
+		Collections.reverse(result);
+		hits.incrementAndGet();
+		return result;
+	}
+
+	/**
+	 * DB에서 읽은 최신 메시지로 버퍼 생성
+	 * - 조회하는 사이 같은 스트라이프에 쓰기가 있었으면 빠진 메시지가 있을 수 있으므로 버림 (다음 요청에서 다시 로딩)
+	 * @param latest 오래된 순 최신 메시지 (최대 recent-size 개)
+	 */
+	public synchronized void load(int teamId, long version, List<ChatMessage> latest) {
+		if (writeVersions.get(stripe(teamId)) != version) {
+			staleLoads.incrementAndGet();
+			return;
+		}
+		rings.put(teamId, new TeamRing(latest, latest.size() < recentSize));
+	}
+
+	/**
+	 * 다른 노드에서 보낸 메시지 추가
+	 * - 버퍼가 없어도 settle 시간 동안 기억해 두었다가 remoteArrivals()로 DB 결과에 합침
+	 */
+	public synchronized void appendRemote(ChatMessage message) {
+		long now = System.currentTimeMillis();
+		Deque<Arrival> recent = arrivals.computeIfAbsent(message.getTeamId(), k -> new ArrayDeque<>());
+		expire(recent, now);
+		recent.addLast(new Arrival(message, now));
+		while (recent.size() > recentSize) {
+			recent.pollFirst();
+		}
+		append(message);
+	}
+
+	/**
+	 * 아직 DB에 없을 수 있는 다른 노드의 메시지 (message_id 순)
+	 * @param beforeId null이 아니면 beforeId 미만만
+	 */
+	public synchronized List<ChatMessage> remoteArrivals(int teamId, Integer beforeId) {
+		Deque<Arrival> recent = arrivals.get(teamId);
+		if (recent == null) {
+			return List.of();
+		}
+		expire(recent, System.currentTimeMillis());
+		if (recent.isEmpty()) {
+			arrivals.remove(teamId);
+			return List.of();
+		}
+		List<ChatMessage> result = new ArrayList<>(recent.size());
+		for (Arrival arrival : recent) {
+			if (beforeId == null || arrival.message.getMessageId() < beforeId) {
+				result.add(arrival.message);
+			}
+		}
+		result.sort(Comparator.comparingInt(ChatMessage::getMessageId));
+		return result;
+	}
+
+	// 새 메시지 추가 (버퍼가 없는 팀은 다음 조회 때 DB에서 로딩)
+	public synchronized void append(ChatMessage message) {
+		writeVersions.incrementAndGet(stripe(message.getTeamId()));
+		TeamRing ring = rings.get(message.getTeamId());
+		if (ring == null) {
+			return;
+		}
+		// 대부분 맨 뒤에 붙음 - 다른 노드에서 늦게 도착한 메시지만 자리를 찾아 넣음, 이미 있으면 무시
+		List<ChatMessage> tail = new ArrayList<>();
+		while (!ring.messages.isEmpty() && ring.messages.peekLast().getMessageId() >= message.getMessageId()) {
+			ChatMessage last = ring.messages.pollLast();
+			if (last.getMessageId() == message.getMessageId()) {
+				message = null;
+			}
+			tail.add(last);
+		}
+		if (message != null) {
+			ring.messages.addLast(message);
+		}
+		for (int i = tail.size() - 1; i >= 0; i--) {
+			ring.messages.addLast(tail.get(i));
+		}
+		while (ring.messages.size() > recentSize) {
+			ring.messages.pollFirst();
+			ring.complete = false;
+		}
+	}
+
+	// 삭제된 메시지 제거 (남은 구간은 여전히 빈틈없으므로 부족한 부분은 slice가 DB로 넘김)
+	public synchronized void remove(int teamId, int messageId) {
+		writeVersions.incrementAndGet(stripe(teamId));
+		TeamRing ring = rings.get(teamId);
+		if (ring != null) {
+			ring.messages.removeIf(message -> message.getMessageId() == messageId);
+		}
+		Deque<Arrival> recent = arrivals.get(teamId);
+		if (recent != null) {
+			recent.removeIf(arrival -> arrival.message.getMessageId() == messageId);
+		}
+	}
+
+	public synchronized void invalidate(int teamId) {
+		writeVersions.incrementAndGet(stripe(teamId));
+		rings.remove(teamId);
+	}
+
+	public synchronized Map<String, Object> getStats() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		long total = hitCount + missCount;
+		long messages = 0;
+		for (TeamRing ring : rings.values()) {
+			messages += ring.messages.size();
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("teams", rings.size());
+		stats.put("remoteArrivalTeams", arrivals.size());
+		stats.put("maxTeams", maxTeams);
+		stats.put("messages", messages);
+		stats.put("recentSize", recentSize);
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+		stats.put("staleLoads", staleLoads.get());
+		return stats;
+	}
+
+	// settle 시간이 지난 원격 메시지는 원래 노드가 이미 저장했다고 보고 버림
+	private void expire(Deque<Arrival> recent, long now) {
+		long settleMs = flushIntervalMs + maxBackoffMs;
+		while (!recent.isEmpty() && now - recent.peekFirst().arrivedAt > settleMs) {
+			recent.pollFirst();
+		}
+	}
+
+	private static int stripe(int teamId) {
+		return Math.floorMod(teamId, VERSION_STRIPES);
+	}
+}
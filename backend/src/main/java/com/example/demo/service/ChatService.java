@@ -1,60 +1,220 @@
 package com.example.demo.service;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import com.example.demo.dao.ChatMessageDao;
+import com.example.demo.dto.ClusterMessage;
 import com.example.demo.model.ChatMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class ChatService {
 
+	public static final String EVENT_CHAT_DELETED = "CHAT_DELETED";
+
+	private static final String TEAM_TOPIC = "/topic/team/";
+	// 다른 노드의 최근 메시지 버퍼 정리용 (클라이언트는 구독하지 않음)
+	private static final String CACHE_TOPIC = "/topic/cluster/chat";
+
+	// chat_message.content 컬럼 길이
+	private static final int MAX_CONTENT_LENGTH = 2000;
+
 	@Autowired
 	private ChatMessageDao dao;
 
 	@Autowired
-	private SimpMessagingTemplate messagingTemplate;
+	private ClusterEventBus clusterEventBus;
+
+	@Autowired
+	private ChatRecentCache recentCache;
+
+	@Autowired
+	private ChatWriteBehind writeBehind;
+
+	@Autowired
+	private MemberProfileCache profileCache;
+
+	@Autowired
+	private ObjectMapper objectMapper;
 
+	/**
+	 * 메시지 전송
+	 * - ID는 미리 받아 둔 블록에서, 발신자 정보는 캐시에서 채워서 바로 브로드캐스트
+	 * - DB 저장은 ChatWriteBehind가 묶어서 처리 (요청 스레드에서 DB 왕복 없음)
+	 */
 	public ChatMessage sendMessage(ChatMessage message) {
-		int result = dao.insert(message);
-		if (result == 1) {
-			// 생성된 메시지 조회 (발신자 정보 포함)
-			ChatMessage created = dao.content(message.getMessageId());
-			// WebSocket으로 팀원들에게 브로드캐스트
-			broadcastMessage(created);
-			return created;
+		if (message.getContent() == null || message.getContent().isEmpty()
+				|| message.getContent().length() > MAX_CONTENT_LENGTH) {
+			return null;
 		}
-		return null;
+		MemberProfileCache.Profile sender = profileCache.get(message.getSenderNo());
+		if (sender == null) {
+			return null;
+		}
+		message.setMessageId(writeBehind.nextId());
+		message.setSenderName(sender.getName());
+		message.setSenderUserid(sender.getUserid());
+		message.setSentAt(new Timestamp(System.currentTimeMillis()));
+		// 저장 대기열에 먼저 넣어야 이후 조회에서 pending으로 보임
+		writeBehind.enqueue(message);
+		recentCache.append(message);
+		// WebSocket으로 팀원들에게 브로드캐스트
+		broadcastMessage(message);
+		return message;
 	}
 
+	// 최근 메시지 - recent-size 이하 요청은 링 버퍼에서 응답, 없으면 DB에서 한 번 채움
 	public List<ChatMessage> getRecentMessages(int teamId, int limit) {
-		Map<String, Object> params = new HashMap<>();
-		params.put("teamId", teamId);
-		params.put("limit", limit > 0 ? limit : 100);
-		return dao.listRecentByTeam(params);
+		int size = limit > 0 ? limit : 100;
+		if (size > recentCache.getRecentSize()) {
+			List<ChatMessage> pending = pending(teamId, null);
+			return mergePending(dao.listRecentByTeam(pageParams(teamId, null, size)), pending, size);
+		}
+		List<ChatMessage> cached = recentCache.slice(teamId, null, size);
+		if (cached != null) {
+			return cached;
+		}
+		long version = recentCache.version(teamId);
+		// 저장 대기 메시지는 DB 조회 전에 읽음 (조회 중 저장이 끝난 메시지는 DB 결과에 포함)
+		List<ChatMessage> pending = pending(teamId, null);
+		List<ChatMessage> latest = mergePending(
+			dao.listRecentByTeam(pageParams(teamId, null, recentCache.getRecentSize())),
+			pending, recentCache.getRecentSize());
+		recentCache.load(teamId, version, latest);
+		return latest.size() > size ? latest.subList(latest.size() - size, latest.size()) : latest;
 	}
 
+	// 이전 메시지 - 버퍼 구간 안이면 버퍼에서, 아니면 (team_id, message_id) 키셋 조회
 	public List<ChatMessage> getMessagesBefore(int teamId, int beforeId, int limit) {
-		Map<String, Object> params = new HashMap<>();
-		params.put("teamId", teamId);
-		params.put("beforeId", beforeId);
-		params.put("limit", limit > 0 ? limit : 50);
-		return dao.listByTeam(params);
+		int size = limit > 0 ? limit : 50;
+		List<ChatMessage> cached = recentCache.slice(teamId, beforeId, size);
+		if (cached != null) {
+			return cached;
+		}
+		List<ChatMessage> pending = pending(teamId, beforeId);
+		return mergePending(dao.listByTeam(pageParams(teamId, beforeId, size)), pending, size);
 	}
 
 	public ChatMessage getMessage(int messageId) {
-		return dao.content(messageId);
+		ChatMessage pending = writeBehind.find(messageId);
+		return pending != null ? pending : dao.content(messageId);
 	}
 
 	public int deleteMessage(int messageId) {
-		return dao.delete(messageId);
+		// 아직 저장 전이면 대기열에서 빼는 것으로 끝
+		ChatMessage message = writeBehind.find(messageId);
+		int result;
+		if (message != null && writeBehind.cancel(messageId)) {
+			result = 1;
+		} else {
+			message = dao.content(messageId);
+			if (message == null) {
+				return 0;
+			}
+			result = dao.delete(messageId);
+		}
+		if (result > 0) {
+			recentCache.remove(message.getTeamId(), messageId);
+			if (clusterEventBus.isClustered()) {
+				Map<String, Object> event = new HashMap<>();
+				event.put("eventType", EVENT_CHAT_DELETED);
+				event.put("teamId", message.getTeamId());
+				event.put("messageId", messageId);
+				clusterEventBus.broadcast(CACHE_TOPIC, event);
+			}
+		}
+		return result;
+	}
+
+	public Map<String, Object> getCacheStats() {
+		return recentCache.getStats();
+	}
+
+	public Map<String, Object> getPersistenceStats() {
+		return writeBehind.getStats();
+	}
+
+	// 팀 채팅 목적지 (클라이언트 구독, 저장 실패로 버린 메시지의 CHAT_DELETED도 여기로)
+	static String teamChatTopic(int teamId) {
+		return TEAM_TOPIC + teamId + "/chat";
+	}
+
+	/**
+	 * 다른 노드에서 보낸 채팅/삭제를 이 노드의 최근 메시지 버퍼에 반영
+	 */
+	@EventListener
+	public void onClusterMessage(ClusterMessage message) {
+		String destination = message.getDestination();
+		JsonNode payload = message.getPayload();
+		if (destination == null || payload == null) {
+			return;
+		}
+		try {
+			if (CACHE_TOPIC.equals(destination)) {
+				if (EVENT_CHAT_DELETED.equals(payload.path("eventType").asText())) {
+					recentCache.remove(payload.path("teamId").asInt(), payload.path("messageId").asInt());
+				}
+			} else if (destination.startsWith(TEAM_TOPIC) && destination.endsWith("/chat")) {
+				if (ClusterEventBus.EVENT_RESYNC.equals(payload.path("eventType").asText())) {
+					// 다른 노드의 채팅 발행을 놓침 - 버퍼를 버리고 다음 조회는 DB에서
+					recentCache.invalidate(payload.path("teamId").asInt());
+				} else if (EVENT_CHAT_DELETED.equals(payload.path("eventType").asText())) {
+					recentCache.remove(payload.path("teamId").asInt(), payload.path("messageId").asInt());
+				} else {
+					recentCache.appendRemote(objectMapper.treeToValue(payload, ChatMessage.class));
+				}
+			}
+		} catch (Exception e) {
+			log.warn("Failed to apply remote chat event ({}): {}", destination, e.getMessage());
+		}
+	}
+
+	// 이 노드의 저장 대기 메시지 + 다른 노드에서 받았지만 아직 그 노드가 저장하지 않았을 수 있는 메시지
+	private List<ChatMessage> pending(int teamId, Integer beforeId) {
+		List<ChatMessage> local = writeBehind.pending(teamId, beforeId);
+		List<ChatMessage> remote = recentCache.remoteArrivals(teamId, beforeId);
+		if (remote.isEmpty()) {
+			return local;
+		}
+		if (local.isEmpty()) {
+			return remote;
+		}
+		List<ChatMessage> merged = new ArrayList<>(local);
+		merged.addAll(remote);
+		return merged;
+	}
+
+	// DB 결과 + 아직 저장되지 않은 메시지 (message_id 순, 최신 limit개)
+	private List<ChatMessage> mergePending(List<ChatMessage> rows, List<ChatMessage> pending, int limit) {
+		if (pending.isEmpty()) {
+			return rows;
+		}
+		Map<Integer, ChatMessage> byId = new TreeMap<>();
+		rows.forEach(message -> byId.put(message.getMessageId(), message));
+		pending.forEach(message -> byId.putIfAbsent(message.getMessageId(), message));
+		List<ChatMessage> merged = new ArrayList<>(byId.values());
+		return merged.size() > limit ? merged.subList(merged.size() - limit, merged.size()) : merged;
+	}
+
+	private Map<String, Object> pageParams(int teamId, Integer beforeId, int limit) {
+		Map<String, Object> params = new HashMap<>();
+		params.put("teamId", teamId);
+		params.put("beforeId", beforeId);
+		params.put("limit", limit);
+		return params;
 	}
 
 	private void broadcastMessage(ChatMessage message) {
-		String destination = "/topic/team/" + message.getTeamId() + "/chat";
-		messagingTemplate.convertAndSend(destination, message);
+		clusterEventBus.broadcast(teamChatTopic(message.getTeamId()), message);
 	}
 }
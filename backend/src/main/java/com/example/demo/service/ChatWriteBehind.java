@@ -0,0 +1,342 @@
+package com.example.demo.service;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.ChatMessageDao;
+import com.example.demo.model.ChatMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 지연 일괄 저장 (write-behind)
+ * - 메시지 ID는 chat_seq에서 id-block-size 개씩 미리 받아 두고 순서대로 할당
+ * - 전송된 메시지는 큐에 쌓였다가 flush-interval-ms마다 여러 행 INSERT 한 번으로 저장
+ * - 큐가 가득 차면 요청 스레드에서 바로 저장 (메모리 상한)
+ * - 연결/일시적 오류(DB 장애, 재시작 등)면 묶음을 그대로 두고 지수 백오프로 재시도 (버리지 않음)
+ * - 그 외 오류는 다음 주기에 재시도하고, max-retries를 넘기면 한 건씩 저장해서 문제 행(데이터 오류)만 버림
+ *   (이미 브로드캐스트된 메시지이므로 버릴 때 최근 메시지 버퍼에서 빼고 CHAT_DELETED를 보냄)
+ * - 아직 저장되지 않은 메시지는 pending()/find()로 조회할 수 있어야 함 (목록/삭제 시 DB 결과와 합침)
+ */
+@Slf4j
+@Service
+public class ChatWriteBehind {
+
+	@Autowired
+	private ChatMessageDao dao;
+
+	@Autowired
+	private ChatRecentCache recentCache;
+
+	@Autowired
+	private ClusterEventBus clusterEventBus;
+
+	@Value("${synodos.chat.id-block-size:20}")
+	private int idBlockSize;
+
+	@Value("${synodos.chat.write-queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${synodos.chat.flush-batch-size:500}")
+	private int flushBatchSize;
+
+	@Value("${synodos.chat.flush-max-retries:5}")
+	private int maxRetries;
+
+	// 일시적 오류 재시도 간격 (실패할 때마다 두 배, max-backoff-ms까지)
+	@Value("${synodos.chat.flush-retry-backoff-ms:200}")
+	private long retryBackoffMs;
+
+	@Value("${synodos.chat.flush-max-backoff-ms:10000}")
+	private long maxBackoffMs;
+
+	// 미리 받아 둔 메시지 ID
+	private final Deque<Integer> idBlock = new ArrayDeque<>();
+
+	private final ConcurrentLinkedQueue<ChatMessage> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+
+	// 아직 DB에 없는 메시지 (큐 + 저장 중인 묶음), messageId -> 메시지
+	private final Map<Integer, ChatMessage> unpersisted = new ConcurrentHashMap<>();
+
+	// 저장 실패 후 재시도 대기 중인 묶음
+	private List<ChatMessage> retryBatch;
+	private int retryAttempts;
+	// 연속된 일시적 오류 횟수와 다음 재시도 시각 (백오프)
+	private int transientFailures;
+	private long nextAttemptAt;
+
+	// flush와 취소(삭제)가 겹치지 않도록
+	private final Object flushLock = new Object();
+
+	private final AtomicLong enqueued = new AtomicLong();
+	private final AtomicLong persisted = new AtomicLong();
+	private final AtomicLong batches = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong transientErrors = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong syncWrites = new AtomicLong();
+	private final AtomicLong cancelled = new AtomicLong();
+	private volatile long lastFlushMs;
+	private volatile long lastFlushAt;
+
+	// 블록이 비었을 때만 DB 왕복 (generate_series로 한 번에 여러 개)
+	public synchronized int nextId() {
+		if (idBlock.isEmpty()) {
+			idBlock.addAll(dao.nextIds(Math.max(1, idBlockSize)));
+		}
+		return idBlock.removeFirst();
+	}
+
+	/**
+	 * 저장 예약 (큐가 가득 찼으면 이 스레드에서 바로 저장)
+	 */
+	public void enqueue(ChatMessage message) {
+		enqueued.incrementAndGet();
+		unpersisted.put(message.getMessageId(), message);
+		if (queued.incrementAndGet() <= queueCapacity) {
+			queue.add(message);
+			return;
+		}
+		queued.decrementAndGet();
+		syncWrites.incrementAndGet();
+		try {
+			dao.insertBatch(List.of(message));
+			persisted.incrementAndGet();
+		} finally {
+			unpersisted.remove(message.getMessageId());
+		}
+	}
+
+	// 아직 저장되지 않은 팀 메시지 (beforeId가 있으면 그 미만만), message_id 순
+	public List<ChatMessage> pending(int teamId, Integer beforeId) {
+		if (unpersisted.isEmpty()) {
+			return List.of();
+		}
+		List<ChatMessage> result = new ArrayList<>();
+		for (ChatMessage message : unpersisted.values()) {
+			if (message.getTeamId() == teamId && (beforeId == null || message.getMessageId() < beforeId)) {
+				result.add(message);
+			}
+		}
+		result.sort(Comparator.comparingInt(ChatMessage::getMessageId));
+		return result;
+	}
+
+	public ChatMessage find(int messageId) {
+		return unpersisted.get(messageId);
+	}
+
+	/**
+	 * 저장 전 메시지 취소 (삭제)
+	 * - 저장 중인 묶음에 들어 있으면 저장이 끝날 때까지 기다린 뒤 false (호출자가 DB에서 삭제)
+	 * @return 저장 전에 취소했으면 true
+	 */
+	public boolean cancel(int messageId) {
+		synchronized (flushLock) {
+			ChatMessage message = unpersisted.get(messageId);
+			if (message == null) {
+				return false;
+			}
+			boolean removed = queue.remove(message);
+			if (removed) {
+				queued.decrementAndGet();
+			}
+			if (!removed && retryBatch != null) {
+				removed = retryBatch.remove(message);
+			}
+			if (removed) {
+				unpersisted.remove(messageId);
+				cancelled.incrementAndGet();
+			}
+			return removed;
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${synodos.chat.flush-interval-ms:100}")
+	public void flush() {
+		synchronized (flushLock) {
+			if (System.currentTimeMillis() < nextAttemptAt) {
+				return;
+			}
+			long started = System.nanoTime();
+			if (retryBatch != null && !write(retryBatch)) {
+				return;
+			}
+			List<ChatMessage> batch;
+			while (!(batch = drain()).isEmpty()) {
+				if (!write(batch)) {
+					return;
+				}
+			}
+			lastFlushMs = (System.nanoTime() - started) / 1_000_000;
+			lastFlushAt = System.currentTimeMillis();
+		}
+	}
+
+	private List<ChatMessage> drain() {
+		List<ChatMessage> batch = new ArrayList<>(Math.min(flushBatchSize, Math.max(queued.get(), 0)));
+		ChatMessage message;
+		while (batch.size() < flushBatchSize && (message = queue.poll()) != null) {
+			queued.decrementAndGet();
+			batch.add(message);
+		}
+		return batch;
+	}
+
+	// 묶음 저장, 실패하면 재시도 대기열로 (재시도를 다 쓰면 한 건씩 저장) - 계속 진행해도 되면 true
+	private boolean write(List<ChatMessage> batch) {
+		try {
+			dao.insertBatch(batch);
+			batches.incrementAndGet();
+			persisted.addAndGet(batch.size());
+			batch.forEach(message -> unpersisted.remove(message.getMessageId()));
+			retryBatch = null;
+			retryAttempts = 0;
+			transientFailures = 0;
+			return true;
+		} catch (Exception e) {
+			if (isTransient(e)) {
+				backOff(batch, e);
+				return false;
+			}
+			if (++retryAttempts <= maxRetries) {
+				retries.incrementAndGet();
+				retryBatch = batch;
+				log.warn("Chat batch write failed ({} messages, attempt {}): {}", batch.size(), retryAttempts, e.getMessage());
+				return false;
+			}
+		}
+		List<ChatMessage> remaining = writeOneByOne(batch);
+		retryAttempts = 0;
+		if (!remaining.isEmpty()) {
+			retryBatch = remaining;
+			return false;
+		}
+		retryBatch = null;
+		return true;
+	}
+
+	// 한 건씩 저장하면서 데이터 오류 행만 버림 - 도중에 일시적 오류가 나면 남은 행을 반환 (백오프 후 재시도)
+	private List<ChatMessage> writeOneByOne(List<ChatMessage> batch) {
+		for (int i = 0; i < batch.size(); i++) {
+			ChatMessage message = batch.get(i);
+			try {
+				dao.insertBatch(List.of(message));
+				persisted.incrementAndGet();
+			} catch (Exception e) {
+				if (isTransient(e)) {
+					List<ChatMessage> remaining = new ArrayList<>(batch.subList(i, batch.size()));
+					backOff(remaining, e);
+					return remaining;
+				}
+				dropped.incrementAndGet();
+				log.error("Dropping chat message {} (team {}): {}", message.getMessageId(), message.getTeamId(), e.getMessage());
+				retract(message);
+			}
+			unpersisted.remove(message.getMessageId());
+		}
+		return List.of();
+	}
+
+	// 일시적 오류 - 묶음을 그대로 두고 재시도 간격을 두 배씩 늘림 (재시도 횟수 제한 없음)
+	private void backOff(List<ChatMessage> batch, Exception e) {
+		retryBatch = batch;
+		transientErrors.incrementAndGet();
+		long delay = Math.min(retryBackoffMs << Math.min(transientFailures, 16), maxBackoffMs);
+		transientFailures++;
+		nextAttemptAt = System.currentTimeMillis() + delay;
+		log.warn("Chat batch write failed with a transient error ({} messages, retry in {} ms): {}",
+			batch.size(), delay, e.getMessage());
+	}
+
+	// 연결 실패/일시적 오류 (SQLState 08: 연결, 57: 운영자 개입 - 관리자 종료/재시작 등)
+	static boolean isTransient(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause() != t ? t.getCause() : null) {
+			if (t instanceof TransientDataAccessException || t instanceof CannotGetJdbcConnectionException
+					|| t instanceof SQLTransientException || t instanceof SQLRecoverableException) {
+				return true;
+			}
+			if (t instanceof SQLException) {
+				String state = ((SQLException) t).getSQLState();
+				if (state != null && (state.startsWith("08") || state.startsWith("57"))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// 버린 메시지를 이 노드 버퍼에서 빼고 클라이언트/다른 노드에 삭제 알림
+	private void retract(ChatMessage message) {
+		recentCache.remove(message.getTeamId(), message.getMessageId());
+		try {
+			Map<String, Object> event = new HashMap<>();
+			event.put("eventType", ChatService.EVENT_CHAT_DELETED);
+			event.put("teamId", message.getTeamId());
+			event.put("messageId", message.getMessageId());
+			clusterEventBus.broadcast(ChatService.teamChatTopic(message.getTeamId()), event);
+		} catch (Exception e) {
+			log.warn("Failed to broadcast dropped chat message {}: {}", message.getMessageId(), e.getMessage());
+		}
+	}
+
+	// 종료 시 남은 메시지 저장
+	@EventListener(ContextClosedEvent.class)
+	public void drainOnShutdown() {
+		synchronized (flushLock) {
+			retryAttempts = maxRetries;
+			nextAttemptAt = 0;
+		}
+		flush();
+		if (!unpersisted.isEmpty()) {
+			log.warn("{} chat messages were not persisted before shutdown", unpersisted.size());
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("queued", queued.get());
+		stats.put("unpersisted", unpersisted.size());
+		long oldest = 0;
+		for (ChatMessage message : unpersisted.values()) {
+			if (message.getSentAt() != null) {
+				oldest = Math.max(oldest, System.currentTimeMillis() - message.getSentAt().getTime());
+			}
+		}
+		stats.put("oldestUnpersistedMs", oldest);
+		stats.put("enqueued", enqueued.get());
+		stats.put("persisted", persisted.get());
+		stats.put("batches", batches.get());
+		stats.put("retries", retries.get());
+		stats.put("transientErrors", transientErrors.get());
+		stats.put("dropped", dropped.get());
+		stats.put("syncWrites", syncWrites.get());
+		stats.put("cancelled", cancelled.get());
+		stats.put("lastFlushMs", lastFlushMs);
+		stats.put("lastFlushAt", lastFlushAt);
+		return stats;
+	}
+}
@@ -0,0 +1,380 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.config.WebSocketTransportMonitor;
+import com.example.demo.dao.ClusterEventDao;
+import com.example.demo.dto.ClusterMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 이벤트 버스 (PostgreSQL LISTEN/NOTIFY)
+ * - broadcast()는 호출한 트랜잭션이 커밋된 뒤(트랜잭션 밖이면 바로) 로컬 STOMP 구독자에게 보내고,
+ *   postgres 모드면 별도 트랜잭션의 NOTIFY로 다른 노드에도 한 번 발행 (롤백된 쓰기는 어느 노드에도 나가지 않음)
+ * - 보드/채팅 토픽 발행이 실패하면 다른 노드 구독자가 놓친 것이므로, 발행이 회복되는 대로 RESYNC 이벤트를 보내
+ *   받는 노드는 해당 팀의 로컬 상태(리비전/캐시/버퍼)를 버리고 클라이언트는 다시 로드함
+ * - 각 노드는 전용 커넥션으로 LISTEN 하다가 받은 메시지를 자기 구독자에게 전달 (자기 발행분/중복은 무시)
+ * - local 모드(기본값)는 단일 노드 동작과 동일 - DB 왕복 없음
+ * - 재연결 중 놓친 보드 이벤트는 클라이언트가 리비전 기반 변경분 조회로 따라잡음
+ */
+@Slf4j
+@Service
+public class ClusterEventBus {
+
+	public static final String MODE_LOCAL = "local";
+	public static final String MODE_POSTGRES = "postgres";
+
+	private static final String CHANNEL = "synodos_events";
+
+	// NOTIFY 페이로드 한도(8000바이트)보다 여유 있게 - 넘으면 cluster_event 테이블 경유
+	private static final int MAX_INLINE_BYTES = 7000;
+
+	// 발행 실패 시 재동기화 대상 목적지 (/topic/team/{id} 보드, /topic/team/{id}/chat 채팅)
+	public static final String EVENT_RESYNC = "RESYNC";
+	private static final Pattern RESYNC_TOPIC = Pattern.compile("^/topic/team/(\\d+)(/chat)?$");
+
+	@Autowired
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Autowired
+	private ClusterEventDao clusterEventDao;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// NOTIFY/큰 페이로드 저장용 별도 트랜잭션 (호출자 트랜잭션과 분리 - 실패해도 호출자 트랜잭션은 그대로)
+	private TransactionTemplate publishTransaction;
+
+	@Value("${synodos.cluster-bus.mode:local}")
+	private String mode;
+
+	@Value("${synodos.cluster-bus.dedupe-size:10000}")
+	private int dedupeSize;
+
+	@Value("${synodos.cluster-bus.poll-timeout-ms:500}")
+	private int pollTimeoutMs;
+
+	@Value("${synodos.cluster-bus.payload-retention-minutes:10}")
+	private int payloadRetentionMinutes;
+
+	@Value("${spring.datasource.url}")
+	private String jdbcUrl;
+
+	@Value("${spring.datasource.username}")
+	private String jdbcUsername;
+
+	@Value("${spring.datasource.password}")
+	private String jdbcPassword;
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final AtomicLong sequence = new AtomicLong();
+
+	// 최근 받은 메시지 ID (LRU, 중복 제거용)
+	private final Map<String, Boolean> seenIds = new LinkedHashMap<>(1024, 0.75f, false) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > dedupeSize;
+		}
+	};
+
+	private final AtomicLong published = new AtomicLong();
+	private final AtomicLong received = new AtomicLong();
+	private final AtomicLong duplicates = new AtomicLong();
+	private final AtomicLong publishFailures = new AtomicLong();
+	private final AtomicLong resyncsSent = new AtomicLong();
+
+	// 발행에 실패해서 RESYNC를 보내야 하는 목적지
+	private final Set<String> resyncDestinations = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean running;
+	private volatile boolean listening;
+	private Thread listenerThread;
+
+	@PostConstruct
+	public void init() {
+		publishTransaction = new TransactionTemplate(transactionManager);
+		publishTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	public boolean isClustered() {
+		return MODE_POSTGRES.equalsIgnoreCase(mode);
+	}
+
+	/**
+	 * 로컬 구독자에게 전달 + 다른 노드로 발행 (호출자 트랜잭션이 있으면 커밋 후에)
+	 * - 다른 노드 발행이 실패해도 로컬 전달은 이미 끝났으므로 예외를 던지지 않음 (재동기화 요청으로 복구)
+	 */
+	public void broadcast(String destination, Object payload) {
+		afterCommit(() -> deliver(destination, payload));
+	}
+
+	/**
+	 * 커밋된 뒤에만 실행
+	 * - afterCommit이 아니라 afterCompletion(커밋)에서 실행: 다른 동기화의 afterCommit 안에서 호출돼도
+	 *   (예: 커밋 후 보드 이벤트 발송) 새로 등록한 동기화가 빠짐없이 실행됨
+	 */
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					try {
+						action.run();
+					} catch (Exception e) {
+						log.error("Cluster event delivery failed: {}", e.getMessage());
+					}
+				}
+			}
+		});
+	}
+
+	private void deliver(String destination, Object payload) {
+		sendLocal(destination, payload);
+		if (!isClustered()) {
+			return;
+		}
+		try {
+			publish(destination, objectMapper.valueToTree(payload));
+			published.incrementAndGet();
+		} catch (Exception e) {
+			publishFailures.incrementAndGet();
+			log.warn("Cluster event publish failed ({}): {}", destination, e.getMessage());
+			if (RESYNC_TOPIC.matcher(destination).matches()) {
+				resyncDestinations.add(destination);
+			}
+		}
+	}
+
+	// NOTIFY 발행 (한도를 넘는 페이로드는 같은 트랜잭션에서 cluster_event에 저장하고 ref만 전달)
+	private void publish(String destination, JsonNode payload) {
+		ClusterMessage message = new ClusterMessage(
+			nodeId + ":" + sequence.incrementAndGet(),
+			nodeId,
+			destination,
+			payload,
+			null
+		);
+		ObjectNode envelope = objectMapper.valueToTree(message);
+		String json = envelope.toString();
+		publishTransaction.executeWithoutResult(status -> {
+			if (json.getBytes(StandardCharsets.UTF_8).length <= MAX_INLINE_BYTES) {
+				clusterEventDao.publish(CHANNEL, json);
+				return;
+			}
+			envelope.remove("payload");
+			envelope.put("ref", clusterEventDao.insertPayload(payload.toString()));
+			clusterEventDao.publish(CHANNEL, envelope.toString());
+		});
+	}
+
+	/**
+	 * 발행에 실패했던 목적지로 RESYNC 발행 (DB가 회복되면 전달됨)
+	 * - 받는 노드는 팀의 로컬 상태를 버리고 구독 클라이언트는 전체를 다시 로드
+	 */
+	@Scheduled(fixedDelayString = "${synodos.cluster-bus.resync-retry-ms:1000}")
+	public void publishResyncs() {
+		if (resyncDestinations.isEmpty()) {
+			return;
+		}
+		for (String destination : List.copyOf(resyncDestinations)) {
+			Matcher matcher = RESYNC_TOPIC.matcher(destination);
+			if (!matcher.matches() || !resyncDestinations.remove(destination)) {
+				continue;
+			}
+			ObjectNode event = objectMapper.createObjectNode();
+			event.put("eventType", EVENT_RESYNC);
+			event.put("teamId", Integer.parseInt(matcher.group(1)));
+			try {
+				publish(destination, event);
+				resyncsSent.incrementAndGet();
+				log.info("Sent cluster resync for {}", destination);
+			} catch (Exception e) {
+				resyncDestinations.add(destination);
+				log.debug("Cluster resync publish failed ({}): {}", destination, e.getMessage());
+				return;
+			}
+		}
+	}
+
+	// 로컬 브로커로 전달 (발행 시각 헤더는 WebSocketTransportMonitor의 fan-out 지연 측정용)
+	private void sendLocal(String destination, Object payload) {
+		messagingTemplate.convertAndSend(destination, payload,
+			Map.of(WebSocketTransportMonitor.PUBLISHED_AT_HEADER, String.valueOf(System.nanoTime())));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!isClustered()) {
+			log.info("Cluster event bus: single-node mode (local delivery only)");
+			return;
+		}
+		running = true;
+		listenerThread = new Thread(this::listenLoop, "cluster-event-listener");
+		listenerThread.setDaemon(true);
+		listenerThread.start();
+		log.info("Cluster event bus: node {} listening on channel {}", nodeId, CHANNEL);
+	}
+
+	@EventListener(ContextClosedEvent.class)
+	public void stop() {
+		running = false;
+		if (listenerThread != null) {
+			listenerThread.interrupt();
+		}
+	}
+
+	// 전용 커넥션으로 LISTEN (풀 커넥션을 오래 점유하지 않도록 DriverManager 사용), 끊기면 지수 백오프 재연결
+	private void listenLoop() {
+		long backoffMs = 1000;
+		while (running) {
+			try (Connection conn = DriverManager.getConnection(jdbcUrl, jdbcUsername, jdbcPassword)) {
+				PGConnection pgConn = conn.unwrap(PGConnection.class);
+				try (Statement stmt = conn.createStatement()) {
+					stmt.execute("LISTEN " + CHANNEL);
+				}
+				listening = true;
+				backoffMs = 1000;
+				while (running) {
+					PGNotification[] notifications = pgConn.getNotifications(pollTimeoutMs);
+					if (notifications == null) {
+						continue;
+					}
+					for (PGNotification notification : notifications) {
+						handle(notification.getParameter());
+					}
+				}
+			} catch (SQLException e) {
+				listening = false;
+				if (!running) {
+					break;
+				}
+				log.warn("Cluster event listener disconnected: {} (retry in {} ms)", e.getMessage(), backoffMs);
+				try {
+					Thread.sleep(backoffMs);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				backoffMs = Math.min(backoffMs * 2, 30000);
+			}
+		}
+		listening = false;
+	}
+
+	private void handle(String json) {
+		try {
+			ClusterMessage message = objectMapper.readValue(json, ClusterMessage.class);
+			if (nodeId.equals(message.getOrigin())) {
+				// 자기 발행분은 broadcast()에서 이미 로컬 전달함
+				return;
+			}
+			if (!markSeen(message.getId())) {
+				duplicates.incrementAndGet();
+				return;
+			}
+			if (message.getRef() != null) {
+				String payload = clusterEventDao.findPayload(message.getRef());
+				if (payload == null) {
+					log.warn("Cluster event payload {} already pruned", message.getRef());
+					return;
+				}
+				message.setPayload(objectMapper.readTree(payload));
+				message.setRef(null);
+			}
+			received.incrementAndGet();
+			sendLocal(message.getDestination(), message.getPayload());
+			// 노드 로컬 상태(보드 리비전/캐시, 접속자)를 맞추도록 애플리케이션 이벤트로도 발행
+			eventPublisher.publishEvent(message);
+		} catch (Exception e) {
+			log.warn("Failed to handle cluster event: {}", e.getMessage());
+		}
+	}
+
+	private boolean markSeen(String id) {
+		if (id == null) {
+			return true;
+		}
+		synchronized (seenIds) {
+			return seenIds.put(id, Boolean.TRUE) == null;
+		}
+	}
+
+	// 모든 노드가 읽었을 시간이 지난 큰 페이로드 정리
+	@Scheduled(fixedDelay = 600000)
+	public void prunePayloads() {
+		if (!isClustered()) {
+			return;
+		}
+		try {
+			int deleted = clusterEventDao.deleteOlderThan(payloadRetentionMinutes);
+			if (deleted > 0) {
+				log.debug("Pruned {} cluster event payloads", deleted);
+			}
+		} catch (Exception e) {
+			log.warn("Cluster event payload prune failed: {}", e.getMessage());
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("mode", isClustered() ? MODE_POSTGRES : MODE_LOCAL);
+		stats.put("nodeId", nodeId);
+		stats.put("listening", listening);
+		stats.put("published", published.get());
+		stats.put("received", received.get());
+		stats.put("duplicates", duplicates.get());
+		stats.put("publishFailures", publishFailures.get());
+		stats.put("pendingResyncs", resyncDestinations.size());
+		stats.put("resyncsSent", resyncsSent.get());
+		return stats;
+	}
+}
@@ -11,17 +11,16 @@ import lombok.extern.slf4j.Slf4j;
 import com.example.demo.dao.CommentDao;
 import com.example.demo.dao.MemberDao;
 import com.example.demo.dao.TaskDao;
+import com.example.demo.dao.TaskGitHubIssueDao;
 import com.example.demo.dao.TaskAssigneeDao;
 import com.example.demo.dao.TaskVerifierDao;
 import com.example.demo.dao.TeamDao;
-import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.model.Comment;
 import com.example.demo.model.Member;
 import com.example.demo.model.Task;
 import com.example.demo.model.TaskAssignee;
 import com.example.demo.model.TaskVerifier;
 import com.example.demo.model.TeamMember;
-import com.example.demo.model.SynodosColumn;
 
 @Slf4j
 @Service
@@ -42,9 +41,6 @@ public class CommentService {
 	@Autowired
 	private TaskVerifierDao verifierDao;
 
-	@Autowired
-	private SynodosColumnDao columnDao;
-
 	@Autowired
 	private MemberDao memberDao;
 
@@ -58,7 +54,10 @@ public class CommentService {
 	private NotificationService persistentNotificationService;
 
 	@Autowired
-	private GitHubCommentSyncService gitHubCommentSyncService;
+	private GitHubSyncOutboxService gitHubSyncOutboxService;
+
+	@Autowired
+	private TaskGitHubIssueDao taskGitHubIssueDao;
 
 	public Comment insert(Comment comment) {
 		int result = dao.insert(comment);
@@ -81,14 +80,16 @@ public class CommentService {
 	}
 
 	/**
-	 * Synodos 댓글을 GitHub Issue로 동기화
+	 * Synodos 댓글을 GitHub Issue로 동기화 (Outbox에 등록, 백그라운드에서 전송)
 	 */
 	private void syncCommentToGitHub(Comment comment) {
 		try {
-			gitHubCommentSyncService.syncCommentToGitHub(comment);
+			if (taskGitHubIssueDao.findByTaskId(comment.getTaskId()) != null) {
+				gitHubSyncOutboxService.enqueueCommentCreate(comment);
+			}
 		} catch (Exception e) {
 			// GitHub 동기화 실패해도 댓글 생성은 성공으로 처리
-			log.warn("Failed to sync comment to GitHub: {}", e.getMessage());
+			log.warn("Failed to queue comment for GitHub sync: {}", e.getMessage());
 		}
 	}
 
@@ -126,12 +127,12 @@ public class CommentService {
 	private void notifyCommentEvent(String eventType, Comment comment) {
 		if (comment == null) return;
 
-		// Task에서 Column을 찾고, Column에서 TeamId를 가져옴
+		// Task의 TeamId로 발송
 		Task task = taskDao.content(comment.getTaskId());
 		if (task != null) {
-			SynodosColumn column = columnDao.content(task.getColumnId());
-			if (column != null) {
-				notificationService.notifyCommentEvent(eventType, comment, column.getTeamId());
+			Integer teamId = task.getTeamId();
+			if (teamId != null) {
+				notificationService.notifyCommentEvent(eventType, comment, teamId);
 			}
 		}
 	}
@@ -143,11 +144,10 @@ public class CommentService {
 		Task task = taskDao.content(comment.getTaskId());
 		if (task == null) return;
 
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column == null) return;
+		Integer teamId = task.getTeamId();
+		if (teamId == null) return;
 
 		int senderNo = comment.getAuthorNo();
-		int teamId = column.getTeamId();
 
 		// 알림 수신자 목록 (중복 제거)
 		Set<Integer> recipients = new HashSet<>();
@@ -169,17 +169,15 @@ public class CommentService {
 			recipients.add(task.getCreatedBy());
 		}
 
-		// 본인 제외하고 알림 발송
+		// 본인 제외하고 한 번에 발송
 		recipients.remove(senderNo);
-		for (Integer recipientNo : recipients) {
-			persistentNotificationService.notifyCommentAdded(
-				recipientNo,
-				senderNo,
-				task.getTaskId(),
-				task.getTitle(),
-				teamId
-			);
-		}
+		persistentNotificationService.notifyCommentAdded(
+			recipients,
+			senderNo,
+			task.getTaskId(),
+			task.getTitle(),
+			teamId
+		);
 	}
 
 	// 멘션된 사용자들에게 알림 발송
@@ -189,11 +187,10 @@ public class CommentService {
 		Task task = taskDao.content(comment.getTaskId());
 		if (task == null) return;
 
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column == null) return;
+		Integer teamId = task.getTeamId();
+		if (teamId == null) return;
 
 		int senderNo = comment.getAuthorNo();
-		int teamId = column.getTeamId();
 
 		// 댓글 내용에서 멘션된 사용자명 추출
 		Set<String> mentionedUsernames = new HashSet<>();
@@ -211,18 +208,20 @@ public class CommentService {
 			teamMemberNos.add(tm.getMemberNo());
 		}
 
-		// 멘션된 사용자들에게 알림 발송
+		// 멘션된 팀원들에게 한 번에 발송
+		Set<Integer> recipients = new HashSet<>();
 		for (String username : mentionedUsernames) {
 			Member member = memberDao.findByUserid(username);
 			if (member != null && member.getNo() != senderNo && teamMemberNos.contains(member.getNo())) {
-				persistentNotificationService.notifyMention(
-					member.getNo(),
-					senderNo,
-					task.getTaskId(),
-					task.getTitle(),
-					teamId
-				);
+				recipients.add(member.getNo());
 			}
 		}
+		persistentNotificationService.notifyMention(
+			recipients,
+			senderNo,
+			task.getTaskId(),
+			task.getTitle(),
+			teamId
+		);
 	}
 }
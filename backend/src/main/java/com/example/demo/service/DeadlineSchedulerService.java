@@ -1,46 +1,24 @@
 package com.example.demo.service;
 
-import java.time.format.DateTimeFormatter;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.example.demo.dao.NotificationDao;
-import com.example.demo.dao.TaskAssigneeDao;
-import com.example.demo.dao.TaskDao;
-import com.example.demo.model.Notification;
-import com.example.demo.model.Task;
-import com.example.demo.model.TaskAssignee;
-
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 마감일 알림 스케줄러 서비스
  * - 마감일 임박 태스크 알림 (1일 이내)
  * - 마감일 초과 태스크 알림
+ * - 대상 조회/중복 제외/저장은 NotificationService에서 SQL 한 문장으로 (태스크별 루프 없음)
  */
 @Slf4j
 @Service
 public class DeadlineSchedulerService {
 
-    @Autowired
-    private TaskDao taskDao;
-
-    @Autowired
-    private TaskAssigneeDao assigneeDao;
-
     @Autowired
     private NotificationService notificationService;
 
-    @Autowired
-    private NotificationDao notificationDao;
-
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
     /**
      * 매일 오전 9시에 마감일 알림 발송
      * cron: 초 분 시 일 월 요일
@@ -60,111 +38,23 @@ public class DeadlineSchedulerService {
      * 마감일 임박 알림 발송 (1일 이내)
      */
     public int sendApproachingDeadlineNotifications() {
-        List<Task> tasks = taskDao.listTasksApproachingDeadline(1);
-        int count = 0;
-
-        for (Task task : tasks) {
-            try {
-                // 이미 같은 날 알림을 보냈는지 확인 (중복 방지)
-                if (hasRecentNotification(task.getTaskId(), Notification.TYPE_DEADLINE_APPROACHING)) {
-                    log.debug("Skipping approaching deadline notification for task {} - already notified",
-                        task.getTaskId());
-                    continue;
-                }
-
-                String dueDate = task.getDueDate() != null
-                    ? task.getDueDate().format(DATE_FORMATTER)
-                    : "미정";
-                int teamId = task.getTeamId() != null ? task.getTeamId() : 0;
-
-                // 담당자들에게 알림 발송
-                Set<Integer> notified = new HashSet<>();
-                List<TaskAssignee> assignees = assigneeDao.listByTask(task.getTaskId());
-
-                for (TaskAssignee assignee : assignees) {
-                    if (!notified.contains(assignee.getMemberNo())) {
-                        notificationService.notifyDeadlineApproaching(
-                            assignee.getMemberNo(),
-                            task.getTaskId(),
-                            task.getTitle(),
-                            dueDate,
-                            teamId
-                        );
-                        notified.add(assignee.getMemberNo());
-                        count++;
-                    }
-                }
-
-                log.debug("Sent approaching deadline notification for task {}: {}",
-                    task.getTaskId(), task.getTitle());
-            } catch (Exception e) {
-                log.error("Failed to send approaching deadline notification for task {}: {}",
-                    task.getTaskId(), e.getMessage());
-            }
+        try {
+            return notificationService.notifyApproachingDeadlines(1);
+        } catch (Exception e) {
+            log.error("Failed to send approaching deadline notifications: {}", e.getMessage());
+            return 0;
         }
-
-        return count;
     }
 
     /**
      * 마감일 초과 알림 발송
      */
     public int sendOverdueNotifications() {
-        List<Task> tasks = taskDao.listOverdueTasks();
-        int count = 0;
-
-        for (Task task : tasks) {
-            try {
-                // 이미 같은 날 알림을 보냈는지 확인 (중복 방지)
-                if (hasRecentNotification(task.getTaskId(), Notification.TYPE_DEADLINE_OVERDUE)) {
-                    log.debug("Skipping overdue notification for task {} - already notified",
-                        task.getTaskId());
-                    continue;
-                }
-
-                String dueDate = task.getDueDate() != null
-                    ? task.getDueDate().format(DATE_FORMATTER)
-                    : "미정";
-                int teamId = task.getTeamId() != null ? task.getTeamId() : 0;
-
-                // 담당자들에게 알림 발송
-                Set<Integer> notified = new HashSet<>();
-                List<TaskAssignee> assignees = assigneeDao.listByTask(task.getTaskId());
-
-                for (TaskAssignee assignee : assignees) {
-                    if (!notified.contains(assignee.getMemberNo())) {
-                        notificationService.notifyDeadlineOverdue(
-                            assignee.getMemberNo(),
-                            task.getTaskId(),
-                            task.getTitle(),
-                            dueDate,
-                            teamId
-                        );
-                        notified.add(assignee.getMemberNo());
-                        count++;
-                    }
-                }
-
-                log.debug("Sent overdue notification for task {}: {}",
-                    task.getTaskId(), task.getTitle());
-            } catch (Exception e) {
-                log.error("Failed to send overdue notification for task {}: {}",
-                    task.getTaskId(), e.getMessage());
-            }
-        }
-
-        return count;
-    }
-
-    /**
-     * 최근 24시간 이내에 같은 타입의 알림이 발송되었는지 확인
-     */
-    private boolean hasRecentNotification(int taskId, String notificationType) {
         try {
-            return notificationDao.hasRecentNotification(taskId, notificationType);
+            return notificationService.notifyOverdueDeadlines();
         } catch (Exception e) {
-            log.warn("Failed to check recent notification for task {}: {}", taskId, e.getMessage());
-            return false;
+            log.error("Failed to send overdue notifications: {}", e.getMessage());
+            return 0;
         }
     }
 
@@ -1,7 +1,9 @@
 package com.example.demo.service;
 
 import com.example.demo.dao.FileDao;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.ProjectFile;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -11,11 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public class FileService {
@@ -73,6 +77,24 @@ public class FileService {
         return fileDao.listByTeam(teamId);
     }
 
+    // 팀 파일 목록 (키셋 페이지, 커서 = 마지막 file_id)
+    public CursorPage<ProjectFile> listByTeamPage(int teamId, String cursor, int size) {
+        String[] keys = CursorPage.decode(cursor, 1);
+        Integer beforeId = keys != null ? Integer.valueOf(keys[0]) : null;
+        List<ProjectFile> fetched = fileDao.listByTeamPage(teamId, beforeId, size + 1);
+        return CursorPage.of(fetched, size, f -> new Object[] { f.getFileId() });
+    }
+
+    // 팀 파일 목록 스트리밍
+    @Transactional(readOnly = true)
+    public void streamByTeam(int teamId, Consumer<ProjectFile> sink) {
+        try (Cursor<ProjectFile> cursor = fileDao.streamByTeam(teamId)) {
+            cursor.forEach(sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public List<ProjectFile> listByTask(int taskId) {
         return fileDao.listByTask(taskId);
     }
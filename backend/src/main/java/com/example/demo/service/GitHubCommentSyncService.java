@@ -25,9 +25,6 @@ public class GitHubCommentSyncService {
     @Autowired
     private TaskDao taskDao;
 
-    @Autowired
-    private SynodosColumnDao columnDao;
-
     @Autowired
     private CommentDao commentDao;
 
@@ -49,14 +46,13 @@ public class GitHubCommentSyncService {
             return;
         }
 
-        // Column에서 TeamId 조회
-        SynodosColumn column = columnDao.content(task.getColumnId());
-        if (column == null) {
-            log.warn("[Comment Sync] Column not found for task #{}", task.getTaskId());
+        // 태스크의 TeamId 사용
+        Integer teamId = task.getTeamId();
+        if (teamId == null) {
+            log.warn("[Comment Sync] Team not found for task #{}", task.getTaskId());
             return;
         }
 
-        int teamId = column.getTeamId();
         log.info("[Comment Sync] Task #{} belongs to team #{}", task.getTaskId(), teamId);
 
         // Task-Issue 매핑 조회
@@ -56,6 +56,9 @@ public class GitHubIssueSyncService {
     @Autowired
     private BoardNotificationService boardNotificationService;
 
+    @Autowired
+    private BoardCacheService boardCacheService;
+
     @Autowired
     private NotificationService notificationService;
 
@@ -139,6 +142,8 @@ public class GitHubIssueSyncService {
         mapping.setGithubUpdatedAt(LocalDateTime.now());
 
         taskGitHubIssueDao.insert(mapping);
+        // 보드 캐시의 GitHub 배지 갱신
+        boardCacheService.invalidate(teamId);
 
         // 로그 기록
         logSync(mapping.getId(), taskId, issue.getNumber(), teamId,
@@ -502,7 +507,7 @@ public class GitHubIssueSyncService {
         task.setColumnId(columnId);
         task.setTitle(cleanTitle);
         task.setDescription(issue.getBody());
-        task.setPosition(taskDao.getMaxPosition(columnId) + 1);
+        task.setPosition(taskDao.getMaxPosition(columnId) + Task.POSITION_GAP);
 
         // Label에서 상태/우선순위 추출
         List<String> labels = issue.getLabels().stream()
@@ -1257,7 +1262,7 @@ public class GitHubIssueSyncService {
                 task.setColumnId(targetColumnId);
                 task.setTitle(cleanTitle);
                 task.setDescription(issue.getBody());
-                task.setPosition(taskDao.getMaxPosition(targetColumnId) + 1);
+                task.setPosition(taskDao.getMaxPosition(targetColumnId) + Task.POSITION_GAP);
 
                 // Label에서 상태 추출 (없으면 Issue state 기반으로 결정)
                 String workflowStatus = labelService.extractStatusFromLabels(issue.getLabels());
@@ -1406,6 +1411,8 @@ public class GitHubIssueSyncService {
                 mapping.setGithubUpdatedAt(LocalDateTime.now());
 
                 taskGitHubIssueDao.insert(mapping);
+                // 보드 캐시의 GitHub 배지 갱신
+                boardCacheService.invalidate(teamId);
 
                 result.setSuccessCount(result.getSuccessCount() + 1);
                 log.info("Exported Task #{} as GitHub Issue #{}", task.getTaskId(), issue.getNumber());
@@ -0,0 +1,183 @@
+package com.example.demo.service;
+
+import com.example.demo.dao.CommentDao;
+import com.example.demo.dao.GitHubSyncOutboxDao;
+import com.example.demo.dao.TaskDao;
+import com.example.demo.dao.TaskGitHubIssueDao;
+import com.example.demo.model.Comment;
+import com.example.demo.model.GitHubSyncOutbox;
+import com.example.demo.model.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * GitHub 동기화 Outbox 서비스
+ * - 보드 변경 요청은 outbox에 등록만 하고 바로 응답 (GitHub 응답 속도와 무관)
+ * - 백그라운드 디스패처가 태스크별 순서대로 GitHub에 전송하고, 실패 시 지수 백오프로 재시도
+ * - 같은 태스크의 대기 중인 변경은 하나로 합쳐져 Issue PATCH 1회로 전송됨
+ */
+@Slf4j
+@Service
+public class GitHubSyncOutboxService {
+
+    @Autowired
+    private GitHubSyncOutboxDao outboxDao;
+
+    @Autowired
+    private GitHubIssueSyncService gitHubIssueSyncService;
+
+    @Autowired
+    private GitHubCommentSyncService gitHubCommentSyncService;
+
+    @Autowired
+    private CommentDao commentDao;
+
+    @Autowired
+    private TaskDao taskDao;
+
+    @Autowired
+    private TaskGitHubIssueDao taskGitHubIssueDao;
+
+    @Value("${synodos.github-outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${synodos.github-outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${synodos.github-outbox.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${synodos.github-outbox.max-backoff-seconds:1800}")
+    private long maxBackoffSeconds;
+
+    /**
+     * 태스크 변경 등록 (제목/설명/상태/우선순위/담당자 등 → Issue PATCH)
+     */
+    public void enqueueTaskUpdate(int taskId, Integer memberNo) {
+        outboxDao.enqueueTaskUpdate(taskId, memberNo);
+        log.debug("[GitHub Outbox] Queued TASK_UPDATE for task #{}", taskId);
+    }
+
+    /**
+     * Issue 생성 등록 (팀 자동 동기화가 켜진 경우 태스크 생성 시)
+     */
+    public void enqueueIssueCreate(int taskId, int memberNo) {
+        outboxDao.enqueueIssueCreate(taskId, memberNo);
+        log.debug("[GitHub Outbox] Queued ISSUE_CREATE for task #{}", taskId);
+    }
+
+    /**
+     * 댓글 생성 등록 (→ Issue 댓글)
+     */
+    public void enqueueCommentCreate(Comment comment) {
+        outboxDao.enqueueCommentCreate(comment.getTaskId(), comment.getCommentId());
+        log.debug("[GitHub Outbox] Queued COMMENT_CREATE for comment #{}", comment.getCommentId());
+    }
+
+    /**
+     * 대기 항목 전송
+     */
+    @Scheduled(fixedDelayString = "${synodos.github-outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<GitHubSyncOutbox> items;
+        try {
+            items = outboxDao.listDispatchable(batchSize);
+        } catch (Exception e) {
+            log.error("[GitHub Outbox] Failed to load pending items: {}", e.getMessage());
+            return;
+        }
+
+        for (GitHubSyncOutbox item : items) {
+            // 다른 인스턴스가 먼저 가져간 항목은 건너뜀
+            if (outboxDao.claim(item.getId()) == 0) {
+                continue;
+            }
+            try {
+                send(item);
+                outboxDao.delete(item.getId());
+            } catch (Exception e) {
+                handleFailure(item, e);
+            }
+        }
+    }
+
+    private void send(GitHubSyncOutbox item) {
+        if (GitHubSyncOutbox.OP_ISSUE_CREATE.equals(item.getOpType())) {
+            Task task = taskDao.content(item.getTaskId());
+            if (task == null || task.getTeamId() == null || item.getMemberNo() == null
+                    || taskGitHubIssueDao.findByTaskId(item.getTaskId()) != null) {
+                // 삭제된 태스크이거나 이미 Issue가 연결됨
+                return;
+            }
+            gitHubIssueSyncService.createIssueFromTask(item.getTaskId(), task.getTeamId(), item.getMemberNo());
+            log.info("[GitHub Outbox] Created issue for task #{} (attempt {})", item.getTaskId(), item.getAttempts() + 1);
+        } else if (GitHubSyncOutbox.OP_TASK_UPDATE.equals(item.getOpType())) {
+            if (item.getMemberNo() == null) {
+                throw new IllegalStateException("동기화할 멤버 정보가 없습니다.");
+            }
+            // 전송 시점의 최신 태스크 상태를 읽으므로 합쳐진 변경이 모두 반영됨
+            gitHubIssueSyncService.syncTaskToGitHub(item.getTaskId(), item.getMemberNo());
+            log.info("[GitHub Outbox] Synced task #{} (attempt {})", item.getTaskId(), item.getAttempts() + 1);
+        } else if (GitHubSyncOutbox.OP_COMMENT_CREATE.equals(item.getOpType())) {
+            Comment comment = item.getCommentId() != null ? commentDao.content(item.getCommentId()) : null;
+            if (comment == null || comment.getGithubCommentId() != null) {
+                // 삭제되었거나 이미 전송된 댓글
+                return;
+            }
+            gitHubCommentSyncService.syncCommentToGitHub(comment);
+            log.info("[GitHub Outbox] Synced comment #{} (attempt {})", comment.getCommentId(), item.getAttempts() + 1);
+        } else {
+            log.warn("[GitHub Outbox] Unknown op type {} (item #{}), dropping", item.getOpType(), item.getId());
+        }
+    }
+
+    private void handleFailure(GitHubSyncOutbox item, Exception e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        int attempts = item.getAttempts() + 1;
+        try {
+            if (attempts >= maxAttempts) {
+                outboxDao.markFailed(item.getId(), error);
+                log.error("[GitHub Outbox] Giving up on {} for task #{} after {} attempts: {}",
+                    item.getOpType(), item.getTaskId(), attempts, error);
+                return;
+            }
+            long delay = backoffSeconds(attempts);
+            if (outboxDao.markRetry(item.getId(), delay, error) == 0) {
+                // 그 사이 같은 태스크의 새 변경이 등록됨 → 새 항목이 최신 상태를 전송
+                outboxDao.delete(item.getId());
+                return;
+            }
+            log.warn("[GitHub Outbox] {} for task #{} failed (attempt {}), retrying in {}s: {}",
+                item.getOpType(), item.getTaskId(), attempts, delay, error);
+        } catch (Exception ex) {
+            log.error("[GitHub Outbox] Failed to record failure for item #{}: {}", item.getId(), ex.getMessage());
+        }
+    }
+
+    // 지수 백오프 (base * 2^(attempts-1), 최대 maxBackoffSeconds)
+    private long backoffSeconds(int attempts) {
+        long delay = baseBackoffSeconds << Math.min(attempts - 1, 20);
+        return Math.min(delay, maxBackoffSeconds);
+    }
+
+    /**
+     * 처리 중 상태로 멈춘 항목 복구 (서버 재시작, 전송 중 종료 등)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void releaseStaleItems() {
+        try {
+            outboxDao.deleteStaleSuperseded(5);
+            int released = outboxDao.releaseStale(5);
+            if (released > 0) {
+                log.info("[GitHub Outbox] Released {} stale items", released);
+            }
+        } catch (Exception e) {
+            log.error("[GitHub Outbox] Failed to release stale items: {}", e.getMessage());
+        }
+    }
+}
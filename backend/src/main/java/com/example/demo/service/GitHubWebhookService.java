@@ -15,14 +15,12 @@ import com.example.demo.dao.TaskAssigneeDao;
 import com.example.demo.dao.TaskCommitDao;
 import com.example.demo.dao.TaskDao;
 import com.example.demo.dao.TeamDao;
-import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.dto.GitHubWebhookPayload;
 import com.example.demo.dto.GitHubWebhookPayload.Commit;
 import com.example.demo.model.Task;
 import com.example.demo.model.TaskAssignee;
 import com.example.demo.model.TaskCommit;
 import com.example.demo.model.Team;
-import com.example.demo.model.SynodosColumn;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,9 +57,6 @@ public class GitHubWebhookService {
     @Autowired
     private TaskAssigneeDao assigneeDao;
 
-    @Autowired
-    private SynodosColumnDao columnDao;
-
     @Autowired
     private NotificationService notificationService;
 
@@ -219,10 +214,9 @@ public class GitHubWebhookService {
      * 담당자들에게 커밋 연결 알림 발송
      */
     private void notifyAssigneesForCommit(Task task, Commit commit, String source) {
-        SynodosColumn column = columnDao.content(task.getColumnId());
-        if (column == null) return;
+        Integer teamId = task.getTeamId();
+        if (teamId == null) return;
 
-        int teamId = column.getTeamId();
         String branchName = "branch".equals(source) || "both".equals(source) ? source : null;
 
         // 담당자들에게 알림
@@ -0,0 +1,94 @@
+package com.example.demo.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.MemberDao;
+import com.example.demo.model.Member;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 회원 표시 정보 캐시 (이름/아이디만, LRU + TTL)
+ * - 채팅/알림처럼 발신자 이름만 필요한 곳에서 메시지마다 member를 조회하지 않도록 사용
+ * - 이 노드에서의 수정/삭제는 MemberService가 바로 무효화, 다른 노드의 수정은 ttl-ms 안에 반영
+ */
+@Service
+public class MemberProfileCache {
+
+	@Autowired
+	private MemberDao memberDao;
+
+	@Value("${synodos.member-cache.max-size:10000}")
+	private int maxSize;
+
+	@Value("${synodos.member-cache.ttl-ms:300000}")
+	private long ttlMs;
+
+	@Data
+	@AllArgsConstructor
+	public static class Profile {
+		private int no;
+		private String name;
+		private String userid;
+		private long loadedAt;
+	}
+
+	private final LinkedHashMap<Integer, Profile> profiles = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Profile> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * @return 없는 회원이면 null (캐시하지 않음)
+	 */
+	public Profile get(int memberNo) {
+		long now = System.currentTimeMillis();
+		synchronized (this) {
+			Profile profile = profiles.get(memberNo);
+			if (profile != null && now - profile.getLoadedAt() <= ttlMs) {
+				hits.incrementAndGet();
+				return profile;
+			}
+		}
+		misses.incrementAndGet();
+		Member member = memberDao.findByNo(memberNo);
+		if (member == null) {
+			invalidate(memberNo);
+			return null;
+		}
+		Profile profile = new Profile(member.getNo(), member.getName(), member.getUserid(), now);
+		synchronized (this) {
+			profiles.put(memberNo, profile);
+		}
+		return profile;
+	}
+
+	public synchronized void invalidate(int memberNo) {
+		profiles.remove(memberNo);
+	}
+
+	public synchronized Map<String, Object> getStats() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		long total = hitCount + missCount;
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("members", profiles.size());
+		stats.put("maxSize", maxSize);
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+		return stats;
+	}
+}
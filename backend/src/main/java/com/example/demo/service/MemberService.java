@@ -1,17 +1,23 @@
 package com.example.demo.service;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.apache.ibatis.cursor.Cursor;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.demo.dao.MemberDao;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.Member;
 
 @Service
@@ -19,13 +25,15 @@ public class MemberService {
 
 	private final MemberDao dao;
 	private final PasswordEncoder passwordEncoder;
+	private final MemberProfileCache profileCache;
 
 	@Value("${synodos.upload.path:uploads}")
 	private String uploadPath;
 
-	public MemberService(MemberDao dao, PasswordEncoder passwordEncoder) {
+	public MemberService(MemberDao dao, PasswordEncoder passwordEncoder, MemberProfileCache profileCache) {
 		this.dao = dao;
 		this.passwordEncoder = passwordEncoder;
+		this.profileCache = profileCache;
 	}
 
 	// 회원가입 (비밀번호 암호화)
@@ -89,7 +97,9 @@ public class MemberService {
 
 	// 회원 정보 수정
 	public int update(Member member) {
-		return dao.update(member);
+		int result = dao.update(member);
+		profileCache.invalidate(member.getNo());
+		return result;
 	}
 
 	// 이메일 중복 체크 (본인 제외)
@@ -119,6 +129,29 @@ public class MemberService {
 		return members;
 	}
 
+	// 모든 회원 조회 (키셋 페이지, 커서 = 마지막 회원의 name/no)
+	public CursorPage<Member> findAllPage(String cursor, int size) {
+		String[] keys = CursorPage.decode(cursor, 2);
+		String afterName = keys != null ? keys[0] : null;
+		Integer afterNo = keys != null ? Integer.valueOf(keys[1]) : null;
+		java.util.List<Member> fetched = dao.findAllPage(afterName, afterNo, size + 1);
+		fetched.forEach(member -> member.setPassword(null));
+		return CursorPage.of(fetched, size, m -> new Object[] { m.getName(), m.getNo() });
+	}
+
+	// 모든 회원 스트리밍
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<Member> sink) {
+		try (Cursor<Member> cursor = dao.streamAll()) {
+			for (Member member : cursor) {
+				member.setPassword(null);
+				sink.accept(member);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	// 이메일 변경
 	public int updateEmail(Member member) {
 		return dao.updateEmail(member);
@@ -126,7 +159,9 @@ public class MemberService {
 
 	// 회원 삭제
 	public int delete(int no) {
-		return dao.delete(no);
+		int result = dao.delete(no);
+		profileCache.invalidate(no);
+		return result;
 	}
 
 	// 프로필 이미지 업로드
@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.NotificationDao;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 월 파티션 관리
+ * - notification은 created_at 월 단위 범위 파티션 (notification_pYYYYMM)
+ * - 이번 달부터 premake-months 개월 뒤까지 파티션을 미리 만들어 둠 (기본 파티션으로 새는 행이 없도록)
+ * - 그래도 기본 파티션에 들어간 행이 있으면 그 달 파티션을 만들며 옮김 (schema.sql의 notification_month_partition)
+ * - retention-months보다 오래된 달은 행 DELETE 대신 파티션째 DROP (VACUUM 부담 없음, 0이면 보관 기간 제한 없음)
+ */
+@Slf4j
+@Service
+public class NotificationPartitionService {
+
+	private static final String PARTITION_PREFIX = "notification_p";
+	private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+	@Autowired
+	private NotificationDao dao;
+
+	@Value("${synodos.notification.premake-months:2}")
+	private int premakeMonths;
+
+	@Value("${synodos.notification.retention-months:12}")
+	private int retentionMonths;
+
+	private final AtomicLong dropped = new AtomicLong();
+	private volatile long lastRunAt;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onStartup() {
+		maintain();
+	}
+
+	@Scheduled(cron = "${synodos.notification.partition-cron:0 30 3 * * *}")
+	public void maintain() {
+		YearMonth current = YearMonth.now();
+		Set<LocalDate> months = new TreeSet<>();
+		for (int i = 0; i <= premakeMonths; i++) {
+			months.add(current.plusMonths(i).atDay(1));
+		}
+		// 파티션이 없을 때 기본 파티션에 쌓인 달도 월 파티션으로 옮김
+		try {
+			months.addAll(dao.listDefaultPartitionMonths());
+		} catch (Exception e) {
+			log.error("Failed to list notification default partition months: {}", e.getMessage());
+		}
+		// 달마다 따로 처리 (한 달이 실패해도 나머지는 생성)
+		for (LocalDate month : months) {
+			try {
+				dao.createMonthlyPartition(month);
+			} catch (Exception e) {
+				log.error("Failed to create notification partition for {}: {}", YearMonth.from(month), e.getMessage());
+			}
+		}
+		if (retentionMonths > 0) {
+			dropExpired(current.minusMonths(retentionMonths));
+		}
+		lastRunAt = System.currentTimeMillis();
+	}
+
+	// oldestKept 이전 달 파티션 삭제
+	private void dropExpired(YearMonth oldestKept) {
+		List<String> partitions;
+		try {
+			partitions = dao.listMonthlyPartitions();
+		} catch (Exception e) {
+			log.error("Failed to list notification partitions: {}", e.getMessage());
+			return;
+		}
+		for (String name : partitions) {
+			YearMonth month = YearMonth.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+			if (!month.isBefore(oldestKept)) {
+				continue;
+			}
+			try {
+				dao.dropMonthlyPartition(name);
+				dropped.incrementAndGet();
+				log.info("Dropped notification partition {} (retention {} months)", name, retentionMonths);
+			} catch (Exception e) {
+				log.error("Failed to drop notification partition {}: {}", name, e.getMessage());
+			}
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("partitions", dao.listMonthlyPartitions());
+		stats.put("premakeMonths", premakeMonths);
+		stats.put("retentionMonths", retentionMonths);
+		stats.put("dropped", dropped.get());
+		stats.put("lastRunAt", lastRunAt);
+		return stats;
+	}
+}
@@ -1,111 +1,380 @@
 package com.example.demo.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.example.demo.dao.NotificationDao;
-import com.example.demo.dao.MemberDao;
+import com.example.demo.dto.ClusterMessage;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.Notification;
-
+import com.example.demo.model.NotificationUnread;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 저장 + 실시간 전송
+ * - 수신자가 여럿인 알림은 fanOut()으로 한 번에 저장 (ID 블록 할당 + 여러 행 INSERT, 수신자 수와 무관하게 2회 왕복)
+ * - 발신자 이름은 MemberProfileCache에서 한 번만 조회
+ * - WebSocket 전송(클러스터 발행 포함)은 전용 풀에서 비동기로, 트랜잭션 안이면 커밋 후에 보냄
+ * - 집계 대상 타입(aggregate-types)은 aggregate-window-ms 안의 읽지 않은 같은 (수신자, 태스크, 타입) 알림에 합침 (새 행 대신 횟수/최신 내용 갱신)
+ * - 읽지 않은 수는 notification_unread 카운터(트리거 유지) + NotificationUnreadCache, 바뀔 때마다 같은 알림 스트림으로 전송
+ */
+@Slf4j
 @Service
 public class NotificationService {
 
+    public static final String EVENT_UNREAD_COUNT = "UNREAD_COUNT";
+
+    private static final String USER_QUEUE_PREFIX = "/user/";
+    private static final String USER_QUEUE_SUFFIX = "/queue/notifications";
+
+    // 마감일 알림 문구 ({title}, {dueDate}는 태스크 값으로 치환 - 일괄 발송은 SQL에서 같은 문구로 치환)
+    private static final String DEADLINE_APPROACHING_TITLE = "마감일 임박";
+    private static final String DEADLINE_APPROACHING_MESSAGE = "'{title}' 태스크의 마감일({dueDate})이 임박했습니다.";
+    private static final String DEADLINE_OVERDUE_TITLE = "마감일 초과";
+    private static final String DEADLINE_OVERDUE_MESSAGE = "'{title}' 태스크의 마감일({dueDate})이 지났습니다.";
+
     @Autowired
     private NotificationDao dao;
 
     @Autowired
-    private MemberDao memberDao;
+    private MemberProfileCache profileCache;
+
+    @Autowired
+    private ClusterEventBus clusterEventBus;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationUnreadCache unreadCache;
+
+    @Value("${synodos.notification.aggregate-types:TASK_UPDATED,COMMENT_ADDED}")
+    private Set<String> aggregateTypes;
+
+    // 마지막 발생 이후 이 시간 안에 같은 알림이 오면 합침 (0이면 합치지 않음)
+    @Value("${synodos.notification.aggregate-window-ms:600000}")
+    private long aggregateWindowMs;
+
+    @Value("${synodos.notification.push-pool-size:2}")
+    private int pushPoolSize;
+
+    @Value("${synodos.notification.push-queue-capacity:10000}")
+    private int pushQueueCapacity;
+
+    // 전송 작업 하나에 담는 알림 수 (대량 발송을 나눠서 풀에 넘김)
+    @Value("${synodos.notification.push-batch-size:500}")
+    private int pushBatchSize;
+
+    private ThreadPoolTaskExecutor pushExecutor;
+
+    private final AtomicLong fanOuts = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong merged = new AtomicLong();
+    private final AtomicLong pushed = new AtomicLong();
+    private final AtomicLong pushFailures = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        pushExecutor = new ThreadPoolTaskExecutor();
+        pushExecutor.setCorePoolSize(pushPoolSize);
+        pushExecutor.setMaxPoolSize(pushPoolSize);
+        pushExecutor.setQueueCapacity(pushQueueCapacity);
+        pushExecutor.setThreadNamePrefix("notification-push-");
+        // 큐가 가득 차면 호출 스레드에서 직접 전송 (알림을 버리지 않음)
+        pushExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        pushExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        pushExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdown();
+    }
 
     // 알림 생성
     public int createNotification(Notification notification) {
-        int result = dao.insert(notification);
-        sendWebSocketNotification(notification);
+        return fanOut(List.of(notification.getRecipientNo()), notification);
+    }
+
+    /**
+     * 같은 내용의 알림을 여러 수신자에게 발송
+     * - template의 recipientNo/notificationId는 무시하고 수신자마다 복사본을 만듦 (중복 수신자는 한 번만)
+     * - 집계 대상이면 기존 알림에 합쳐진 수신자는 새 행 없이 같은 notificationId로 다시 전송됨
+     * @return 저장되거나 합쳐진 알림 수
+     */
+    public int fanOut(Collection<Integer> recipientNos, Notification template) {
+        Set<Integer> recipients = new LinkedHashSet<>(recipientNos);
+        recipients.remove(null);
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String senderName = null;
+        String senderUserid = null;
+        if (template.getSenderNo() != null) {
+            MemberProfileCache.Profile sender = profileCache.get(template.getSenderNo());
+            if (sender != null) {
+                senderName = sender.getName();
+                senderUserid = sender.getUserid();
+            }
+        }
+
+        List<Notification> batch = new ArrayList<>(recipients.size());
+        // 먼저 기존 알림에 합칠 수 있는 수신자를 처리하고 나머지만 새로 저장
+        if (isAggregated(template)) {
+            List<Notification> updated = dao.mergeRecent(template, recipients,
+                    now.minus(Duration.ofMillis(aggregateWindowMs)), now);
+            for (Notification row : updated) {
+                Notification n = copyOf(template);
+                n.setNotificationId(row.getNotificationId());
+                n.setRecipientNo(row.getRecipientNo());
+                n.setAggregateCount(row.getAggregateCount());
+                batch.add(n);
+                recipients.remove(row.getRecipientNo());
+            }
+            merged.addAndGet(updated.size());
+        }
+        int result = batch.size();
+        if (!recipients.isEmpty()) {
+            List<Integer> ids = dao.nextIds(recipients.size());
+            List<Notification> rows = new ArrayList<>(recipients.size());
+            int i = 0;
+            for (Integer recipientNo : recipients) {
+                Notification n = copyOf(template);
+                n.setNotificationId(ids.get(i++));
+                n.setRecipientNo(recipientNo);
+                n.setCreatedAt(now);
+                rows.add(n);
+            }
+            result += dao.insertBatch(rows);
+            inserted.addAndGet(rows.size());
+            batch.addAll(rows);
+        }
+        for (Notification n : batch) {
+            n.setCreatedAt(now);
+            n.setSenderName(senderName);
+            n.setSenderUserid(senderUserid);
+        }
+        fanOuts.incrementAndGet();
+        dispatch(batch);
         return result;
     }
 
+    private boolean isAggregated(Notification template) {
+        return aggregateWindowMs > 0 && template.getTaskId() != null
+                && aggregateTypes.contains(template.getNotificationType());
+    }
+
+    // 커밋 후(트랜잭션 밖이면 바로) 전송 풀에 넘김 - 롤백된 알림은 보내지 않음
+    private void dispatch(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> submit(batch));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // push-batch-size 단위로 나눠서 전송 (묶음마다 카운터 조회 1회)
+    private void submit(List<Notification> batch) {
+        int size = Math.max(1, pushBatchSize);
+        for (int from = 0; from < batch.size(); from += size) {
+            List<Notification> chunk = batch.subList(from, Math.min(from + size, batch.size()));
+            pushExecutor.execute(() -> push(chunk));
+        }
+    }
+
+    // 커밋된 카운터를 한 번에 읽어 알림에 실어 보냄
+    private void push(List<Notification> batch) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        long stamp = unreadCache.stamp();
+        try {
+            Set<Integer> recipients = new LinkedHashSet<>();
+            batch.forEach(n -> recipients.add(n.getRecipientNo()));
+            for (NotificationUnread unread : dao.listUnreadCounts(recipients)) {
+                counts.put(unread.getRecipientNo(), unread.getUnreadCount());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load unread counts for push: {}", e.getMessage());
+        }
+        for (Notification n : batch) {
+            Integer count = counts.get(n.getRecipientNo());
+            if (count != null) {
+                unreadCache.put(n.getRecipientNo(), count, stamp);
+                n.setUnreadCount(count);
+            } else {
+                unreadCache.invalidate(n.getRecipientNo());
+            }
+            sendWebSocketNotification(n.getRecipientNo(), n);
+        }
+    }
+
+    // 읽음/삭제 후 바뀐 읽지 않은 수만 전송 (커밋 후 캐시를 비우고 전송 풀에서 다시 읽음 - 커밋 전 값이 다시 캐시되지 않도록)
+    private void pushUnreadCount(int recipientNo) {
+        afterCommit(() -> {
+            unreadCache.invalidate(recipientNo);
+            pushExecutor.execute(() -> pushUnread(recipientNo));
+        });
+    }
+
+    private void pushUnread(int recipientNo) {
+        try {
+            Map<String, Object> event = new HashMap<>();
+            event.put("eventType", EVENT_UNREAD_COUNT);
+            event.put("unreadCount", unreadCache.refresh(recipientNo));
+            sendWebSocketNotification(recipientNo, event);
+        } catch (Exception e) {
+            pushFailures.incrementAndGet();
+            log.warn("Unread count push failed (recipient {}): {}", recipientNo, e.getMessage());
+        }
+    }
+
     // WebSocket으로 실시간 알림 전송
-    private void sendWebSocketNotification(Notification notification) {
-        // 발신자 이름 조회
-        if (notification.getSenderNo() != null) {
-            var sender = memberDao.findByNo(notification.getSenderNo());
-            if (sender != null) {
-                notification.setSenderName(sender.getName());
+    private void sendWebSocketNotification(int recipientNo, Object payload) {
+        try {
+            // 사용자 목적지 - 받는 회원의 세션(/user/queue/notifications 구독)에만 전달
+            clusterEventBus.broadcast(USER_QUEUE_PREFIX + recipientNo + USER_QUEUE_SUFFIX, payload);
+            pushed.incrementAndGet();
+        } catch (Exception e) {
+            pushFailures.incrementAndGet();
+            log.warn("Notification push failed (recipient {}): {}", recipientNo, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 보낸 알림/읽지 않은 수로 이 노드의 카운터 캐시 갱신
+     */
+    @EventListener
+    public void onClusterMessage(ClusterMessage message) {
+        String destination = message.getDestination();
+        JsonNode payload = message.getPayload();
+        if (destination == null || payload == null
+                || !destination.startsWith(USER_QUEUE_PREFIX) || !destination.endsWith(USER_QUEUE_SUFFIX)) {
+            return;
+        }
+        try {
+            int recipientNo = Integer.parseInt(destination.substring(USER_QUEUE_PREFIX.length(),
+                    destination.length() - USER_QUEUE_SUFFIX.length()));
+            if (payload.hasNonNull("unreadCount")) {
+                unreadCache.put(recipientNo, payload.get("unreadCount").asInt());
+            } else {
+                unreadCache.invalidate(recipientNo);
             }
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring notification event for {}", destination);
         }
-        String destination = "/topic/user/" + notification.getRecipientNo() + "/notifications";
-        messagingTemplate.convertAndSend(destination, notification);
     }
 
-    // 팀 초대 알림
-    public void notifyTeamInvite(int recipientNo, int senderNo, int teamId, String teamName) {
+    private static Notification copyOf(Notification template) {
+        Notification n = new Notification();
+        n.setSenderNo(template.getSenderNo());
+        n.setNotificationType(template.getNotificationType());
+        n.setTitle(template.getTitle());
+        n.setMessage(template.getMessage());
+        n.setTeamId(template.getTeamId());
+        n.setColumnId(template.getColumnId());
+        n.setTaskId(template.getTaskId());
+        return n;
+    }
+
+    private static Notification template(Integer senderNo, String type, String title, String message,
+                                         Integer teamId, Integer taskId) {
         Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
         n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TEAM_INVITE);
-        n.setTitle("팀 초대");
-        n.setMessage(teamName + " 팀에 초대되었습니다.");
+        n.setNotificationType(type);
+        n.setTitle(title);
+        n.setMessage(message);
         n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        n.setTaskId(taskId);
+        return n;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("fanOuts", fanOuts.get());
+        stats.put("inserted", inserted.get());
+        stats.put("merged", merged.get());
+        stats.put("pushed", pushed.get());
+        stats.put("pushFailures", pushFailures.get());
+        stats.put("pushQueued", pushExecutor.getThreadPoolExecutor().getQueue().size());
+        stats.put("unreadCache", unreadCache.getStats());
+        return stats;
+    }
+
+    // 팀 초대 알림
+    public void notifyTeamInvite(int recipientNo, int senderNo, int teamId, String teamName) {
+        fanOut(List.of(recipientNo), template(senderNo, Notification.TYPE_TEAM_INVITE, "팀 초대",
+                teamName + " 팀에 초대되었습니다.", teamId, null));
     }
 
     // 태스크 담당자 지정 알림
     public void notifyTaskAssignee(int recipientNo, int senderNo, int taskId, String taskTitle, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_ASSIGNEE);
-        n.setTitle("태스크 담당자 지정");
-        n.setMessage("'" + taskTitle + "' 태스크의 담당자로 지정되었습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyTaskAssignee(List.of(recipientNo), senderNo, taskId, taskTitle, teamId);
+    }
+
+    public void notifyTaskAssignee(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_TASK_ASSIGNEE, "태스크 담당자 지정",
+                "'" + taskTitle + "' 태스크의 담당자로 지정되었습니다.", teamId, taskId));
     }
 
     // 컬럼 변경 알림 (담당자들에게)
     public void notifyColumnUpdated(int recipientNo, int senderNo, int columnId, String columnTitle, String changeDescription) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_COLUMN_UPDATED);
-        n.setTitle("컬럼 변경");
-        n.setMessage("'" + columnTitle + "' 컬럼이 변경되었습니다: " + changeDescription);
+        Notification n = template(senderNo, Notification.TYPE_COLUMN_UPDATED, "컬럼 변경",
+                "'" + columnTitle + "' 컬럼이 변경되었습니다: " + changeDescription, null, null);
         n.setColumnId(columnId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        fanOut(List.of(recipientNo), n);
     }
 
     // 태스크 변경 알림 (담당자에게)
     public void notifyTaskUpdated(int recipientNo, int senderNo, int taskId, String taskTitle, String changeDescription) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_UPDATED);
-        n.setTitle("태스크 변경");
-        n.setMessage("'" + taskTitle + "' 태스크가 변경되었습니다: " + changeDescription);
-        n.setTaskId(taskId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        fanOut(List.of(recipientNo), template(senderNo, Notification.TYPE_TASK_UPDATED, "태스크 변경",
+                "'" + taskTitle + "' 태스크가 변경되었습니다: " + changeDescription, null, taskId));
     }
 
     // 범용 알림 발송 (워크플로우용)
     public void sendNotification(int recipientNo, int senderNo, String type, String title, String message, int teamId, int columnId, int taskId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(type);
-        n.setTitle(title);
-        n.setMessage(message);
-        n.setTeamId(teamId);
-        n.setColumnId(columnId);
-        n.setTaskId(taskId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        sendNotification(List.of(recipientNo), senderNo, type, title, message, teamId, columnId, taskId);
+    }
+
+    // 범용 알림 발송 (여러 수신자, 0인 ID는 연결 없음)
+    public void sendNotification(Collection<Integer> recipientNos, int senderNo, String type, String title, String message, int teamId, int columnId, int taskId) {
+        Notification n = template(senderNo, type, title, message,
+                teamId != 0 ? teamId : null, taskId != 0 ? taskId : null);
+        n.setColumnId(columnId != 0 ? columnId : null);
+        fanOut(recipientNos, n);
     }
 
     // 알림 목록 조회
@@ -113,201 +382,215 @@ public class NotificationService {
         return dao.listByRecipient(recipientNo, limit);
     }
 
+    // 알림 목록 조회 (키셋 페이지, 커서 = 마지막 created_at/notification_id)
+    public CursorPage<Notification> getNotificationsPage(int recipientNo, String cursor, int size) {
+        String[] keys = CursorPage.decode(cursor, 2);
+        LocalDateTime beforeCreatedAt;
+        try {
+            beforeCreatedAt = keys != null ? LocalDateTime.parse(keys[0]) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        Integer beforeId = keys != null ? Integer.valueOf(keys[1]) : null;
+        List<Notification> fetched = dao.listByRecipientPage(recipientNo, beforeCreatedAt, beforeId, size + 1);
+        return CursorPage.of(fetched, size, n -> new Object[] { n.getCreatedAt(), n.getNotificationId() });
+    }
+
+    // 알림 목록 스트리밍
+    @Transactional(readOnly = true)
+    public void streamNotifications(int recipientNo, Consumer<Notification> sink) {
+        try (Cursor<Notification> cursor = dao.streamByRecipient(recipientNo)) {
+            cursor.forEach(sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // 읽지 않은 알림 목록
     public List<Notification> getUnreadNotifications(int recipientNo) {
         return dao.listUnreadByRecipient(recipientNo);
     }
 
-    // 읽지 않은 알림 수
+    // 읽지 않은 알림 수 (캐시 -> notification_unread PK 조회)
     public int getUnreadCount(int recipientNo) {
-        return dao.countUnread(recipientNo);
+        return unreadCache.get(recipientNo);
     }
 
     // 읽음 처리
     public int markAsRead(int notificationId) {
-        return dao.markAsRead(notificationId);
+        Integer recipientNo = dao.markAsRead(notificationId);
+        if (recipientNo == null) {
+            return 0;
+        }
+        pushUnreadCount(recipientNo);
+        return 1;
     }
 
     // 모두 읽음 처리
     public int markAllAsRead(int recipientNo) {
-        return dao.markAllAsRead(recipientNo);
+        int result = dao.markAllAsRead(recipientNo);
+        if (result > 0) {
+            pushUnreadCount(recipientNo);
+        }
+        return result;
     }
 
     // 알림 삭제
     public int deleteNotification(int notificationId) {
-        return dao.delete(notificationId);
+        Integer recipientNo = dao.delete(notificationId);
+        if (recipientNo == null) {
+            return 0;
+        }
+        pushUnreadCount(recipientNo);
+        return 1;
     }
 
     // 모든 알림 삭제
     public int deleteAllNotifications(int recipientNo) {
-        return dao.deleteAllByRecipient(recipientNo);
+        int result = dao.deleteAllByRecipient(recipientNo);
+        if (result > 0) {
+            pushUnreadCount(recipientNo);
+        }
+        return result;
     }
 
     // ============ 검증자 관련 알림 ============
 
     // 태스크 검증자 지정 알림
     public void notifyTaskVerifier(int recipientNo, int senderNo, int taskId, String taskTitle, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_VERIFIER);
-        n.setTitle("태스크 검증자 지정");
-        n.setMessage("'" + taskTitle + "' 태스크의 검증자로 지정되었습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyTaskVerifier(List.of(recipientNo), senderNo, taskId, taskTitle, teamId);
+    }
+
+    public void notifyTaskVerifier(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_TASK_VERIFIER, "태스크 검증자 지정",
+                "'" + taskTitle + "' 태스크의 검증자로 지정되었습니다.", teamId, taskId));
     }
 
     // ============ 워크플로우 관련 알림 ============
 
     // 태스크 수락 알림 (담당자가 수락 -> 요청자에게)
     public void notifyTaskAccepted(int recipientNo, int senderNo, int taskId, String taskTitle, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_ACCEPTED);
-        n.setTitle("태스크 수락됨");
-        n.setMessage("'" + taskTitle + "' 태스크가 수락되었습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        fanOut(List.of(recipientNo), template(senderNo, Notification.TYPE_TASK_ACCEPTED, "태스크 수락됨",
+                "'" + taskTitle + "' 태스크가 수락되었습니다.", teamId, taskId));
     }
 
     // 태스크 거절 알림 (담당자가 거절 -> 요청자에게)
     public void notifyTaskDeclined(int recipientNo, int senderNo, int taskId, String taskTitle, String reason, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_DECLINED);
-        n.setTitle("태스크 거절됨");
-        n.setMessage("'" + taskTitle + "' 태스크가 거절되었습니다." + (reason != null ? " 사유: " + reason : ""));
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyTaskDeclined(List.of(recipientNo), senderNo, taskId, taskTitle, reason, teamId);
+    }
+
+    public void notifyTaskDeclined(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, String reason, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_TASK_DECLINED, "태스크 거절됨",
+                "'" + taskTitle + "' 태스크가 거절되었습니다." + (reason != null ? " 사유: " + reason : ""), teamId, taskId));
     }
 
     // 태스크 검토 요청 알림 (담당자가 제출 -> 검증자에게)
     public void notifyTaskReview(int recipientNo, int senderNo, int taskId, String taskTitle, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_REVIEW);
-        n.setTitle("태스크 검토 요청");
-        n.setMessage("'" + taskTitle + "' 태스크의 검토가 요청되었습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyTaskReview(List.of(recipientNo), senderNo, taskId, taskTitle, teamId);
+    }
+
+    public void notifyTaskReview(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_TASK_REVIEW, "태스크 검토 요청",
+                "'" + taskTitle + "' 태스크의 검토가 요청되었습니다.", teamId, taskId));
     }
 
     // 태스크 승인 알림 (검증자가 승인 -> 담당자에게)
     public void notifyTaskApproved(int recipientNo, int senderNo, int taskId, String taskTitle, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_APPROVED);
-        n.setTitle("태스크 승인됨");
-        n.setMessage("'" + taskTitle + "' 태스크가 승인되어 완료되었습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyTaskApproved(List.of(recipientNo), senderNo, taskId, taskTitle, teamId);
+    }
+
+    public void notifyTaskApproved(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_TASK_APPROVED, "태스크 승인됨",
+                "'" + taskTitle + "' 태스크가 승인되어 완료되었습니다.", teamId, taskId));
     }
 
     // 태스크 반려 알림 (검증자가 반려 -> 담당자에게)
     public void notifyTaskRejected(int recipientNo, int senderNo, int taskId, String taskTitle, String reason, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_TASK_REJECTED);
-        n.setTitle("태스크 반려됨");
-        n.setMessage("'" + taskTitle + "' 태스크가 반려되었습니다." + (reason != null ? " 사유: " + reason : ""));
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyTaskRejected(List.of(recipientNo), senderNo, taskId, taskTitle, reason, teamId);
+    }
+
+    public void notifyTaskRejected(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, String reason, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_TASK_REJECTED, "태스크 반려됨",
+                "'" + taskTitle + "' 태스크가 반려되었습니다." + (reason != null ? " 사유: " + reason : ""), teamId, taskId));
     }
 
     // ============ 댓글/멘션 관련 알림 ============
 
     // 댓글 알림
     public void notifyCommentAdded(int recipientNo, int senderNo, int taskId, String taskTitle, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_COMMENT_ADDED);
-        n.setTitle("새 댓글");
-        n.setMessage("'" + taskTitle + "' 태스크에 새 댓글이 달렸습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyCommentAdded(List.of(recipientNo), senderNo, taskId, taskTitle, teamId);
+    }
+
+    public void notifyCommentAdded(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_COMMENT_ADDED, "새 댓글",
+                "'" + taskTitle + "' 태스크에 새 댓글이 달렸습니다.", teamId, taskId));
     }
 
     // 멘션 알림
     public void notifyMention(int recipientNo, int senderNo, int taskId, String taskTitle, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(senderNo);
-        n.setNotificationType(Notification.TYPE_MENTION);
-        n.setTitle("멘션됨");
-        n.setMessage("'" + taskTitle + "' 태스크에서 회원님을 멘션했습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        notifyMention(List.of(recipientNo), senderNo, taskId, taskTitle, teamId);
+    }
+
+    public void notifyMention(Collection<Integer> recipientNos, int senderNo, int taskId, String taskTitle, int teamId) {
+        fanOut(recipientNos, template(senderNo, Notification.TYPE_MENTION, "멘션됨",
+                "'" + taskTitle + "' 태스크에서 회원님을 멘션했습니다.", teamId, taskId));
     }
 
     // ============ 마감일 관련 알림 ============
 
     // 마감일 임박 알림
     public void notifyDeadlineApproaching(int recipientNo, int taskId, String taskTitle, String dueDate, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(null);  // 시스템 알림
-        n.setNotificationType(Notification.TYPE_DEADLINE_APPROACHING);
-        n.setTitle("마감일 임박");
-        n.setMessage("'" + taskTitle + "' 태스크의 마감일(" + dueDate + ")이 임박했습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        // 시스템 알림 (발신자 없음)
+        fanOut(List.of(recipientNo), template(null, Notification.TYPE_DEADLINE_APPROACHING, DEADLINE_APPROACHING_TITLE,
+                deadlineMessage(DEADLINE_APPROACHING_MESSAGE, taskTitle, dueDate), teamId, taskId));
     }
 
     // 마감일 초과 알림
     public void notifyDeadlineOverdue(int recipientNo, int taskId, String taskTitle, String dueDate, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(null);  // 시스템 알림
-        n.setNotificationType(Notification.TYPE_DEADLINE_OVERDUE);
-        n.setTitle("마감일 초과");
-        n.setMessage("'" + taskTitle + "' 태스크의 마감일(" + dueDate + ")이 지났습니다.");
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        // 시스템 알림 (발신자 없음)
+        fanOut(List.of(recipientNo), template(null, Notification.TYPE_DEADLINE_OVERDUE, DEADLINE_OVERDUE_TITLE,
+                deadlineMessage(DEADLINE_OVERDUE_MESSAGE, taskTitle, dueDate), teamId, taskId));
+    }
+
+    /**
+     * 마감일이 daysAhead일 이내인 미완료 태스크의 담당자 전원에게 알림 (일괄)
+     * - 태스크 x 담당자 조인, 최근 24시간 같은 알림 제외(anti-join), 저장을 INSERT ... SELECT 한 문장으로 처리
+     * @return 보낸 알림 수
+     */
+    public int notifyApproachingDeadlines(int daysAhead) {
+        return notifyDeadlines(Notification.TYPE_DEADLINE_APPROACHING, DEADLINE_APPROACHING_TITLE,
+                DEADLINE_APPROACHING_MESSAGE, false, daysAhead);
+    }
+
+    // 마감일이 지난 미완료 태스크의 담당자 전원에게 알림 (일괄)
+    public int notifyOverdueDeadlines() {
+        return notifyDeadlines(Notification.TYPE_DEADLINE_OVERDUE, DEADLINE_OVERDUE_TITLE,
+                DEADLINE_OVERDUE_MESSAGE, true, 0);
+    }
+
+    private int notifyDeadlines(String type, String title, String messageTemplate, boolean overdue, int daysAhead) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> created = dao.insertDeadlineNotifications(type, title, messageTemplate,
+                overdue, daysAhead, now, now.minusHours(24));
+        fanOuts.incrementAndGet();
+        inserted.addAndGet(created.size());
+        dispatch(created);
+        return created.size();
+    }
+
+    private static String deadlineMessage(String messageTemplate, String taskTitle, String dueDate) {
+        return messageTemplate.replace("{title}", taskTitle).replace("{dueDate}", dueDate);
     }
 
     // ============ GitHub 연동 관련 알림 ============
 
     // 커밋 연결 알림
     public void notifyCommitLinked(int recipientNo, int taskId, String taskTitle, String commitMessage, String branchName, int teamId) {
-        Notification n = new Notification();
-        n.setRecipientNo(recipientNo);
-        n.setSenderNo(null);  // 시스템 알림
-        n.setNotificationType(Notification.TYPE_COMMIT_LINKED);
-        n.setTitle("커밋 연결됨");
         String msg = "'" + taskTitle + "' 태스크에 커밋이 연결되었습니다.";
         if (branchName != null) {
             msg += " (브랜치: " + branchName + ")";
         }
-        n.setMessage(msg);
-        n.setTaskId(taskId);
-        n.setTeamId(teamId);
-        dao.insert(n);
-        sendWebSocketNotification(n);
+        // 시스템 알림 (발신자 없음)
+        fanOut(List.of(recipientNo), template(null, Notification.TYPE_COMMIT_LINKED, "커밋 연결됨", msg, teamId, taskId));
     }
 }
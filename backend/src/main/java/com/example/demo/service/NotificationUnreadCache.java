@@ -0,0 +1,113 @@
+package com.example.demo.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dao.NotificationDao;
+
+/**
+ * 수신자별 읽지 않은 알림 수 캐시 (LRU + TTL)
+ * - 원본은 notification 트리거가 유지하는 notification_unread 테이블 (COUNT 없이 PK 조회)
+ * - 알림 저장/읽음/삭제 후 NotificationService가 DB 값으로 갱신, 다른 노드의 변경은 실시간 전송으로 받거나 ttl-ms 안에 반영
+ * - DB를 읽기 전에 stamp()를 받아 두고 그 stamp로 반영 - 읽는 사이 더 최근 값/무효화가 들어왔으면 덮어쓰지 않음
+ */
+@Service
+public class NotificationUnreadCache {
+
+	@Autowired
+	private NotificationDao dao;
+
+	@Value("${synodos.notification.unread-cache-size:10000}")
+	private int maxSize;
+
+	@Value("${synodos.notification.unread-cache-ttl-ms:60000}")
+	private long ttlMs;
+
+	// 무효화 표시 (stamp만 남겨서 그 전에 시작한 조회 결과가 다시 들어오지 않게 함)
+	private static final int INVALIDATED = -1;
+
+	private static final class Entry {
+		private final int count;
+		private final long stamp;
+		private final long loadedAt;
+
+		Entry(int count, long stamp, long loadedAt) {
+			this.count = count;
+			this.stamp = stamp;
+			this.loadedAt = loadedAt;
+		}
+	}
+
+	private final LinkedHashMap<Integer, Entry> counts = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public int get(int recipientNo) {
+		long now = System.currentTimeMillis();
+		synchronized (this) {
+			Entry entry = counts.get(recipientNo);
+			if (entry != null && entry.count != INVALIDATED && now - entry.loadedAt <= ttlMs) {
+				hits.incrementAndGet();
+				return entry.count;
+			}
+		}
+		misses.incrementAndGet();
+		return refresh(recipientNo);
+	}
+
+	// DB 조회 직전에 받아 put()에 넘김 (나중에 받은 stamp일수록 최신 값)
+	public long stamp() {
+		return clock.incrementAndGet();
+	}
+
+	// DB에서 다시 읽어 캐시에 반영
+	public int refresh(int recipientNo) {
+		long stamp = stamp();
+		Integer count = dao.findUnreadCount(recipientNo);
+		int value = count != null ? count : 0;
+		put(recipientNo, value, stamp);
+		return value;
+	}
+
+	// 지금 받은 값 (다른 노드의 전송 등)
+	public void put(int recipientNo, int count) {
+		put(recipientNo, count, stamp());
+	}
+
+	// stamp 이후에 반영된 값/무효화가 있으면 무시
+	public synchronized void put(int recipientNo, int count, long stamp) {
+		long now = System.currentTimeMillis();
+		counts.compute(recipientNo, (k, entry) ->
+			entry != null && entry.stamp > stamp ? entry : new Entry(count, stamp, now));
+	}
+
+	public synchronized void invalidate(int recipientNo) {
+		counts.put(recipientNo, new Entry(INVALIDATED, stamp(), 0));
+	}
+
+	public synchronized Map<String, Object> getStats() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		long total = hitCount + missCount;
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("recipients", counts.size());
+		stats.put("maxSize", maxSize);
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+		return stats;
+	}
+}
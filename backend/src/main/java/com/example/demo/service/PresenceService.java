@@ -1,93 +1,569 @@
 package com.example.demo.service;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import com.example.demo.dto.ClusterMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 팀별 접속자 관리
+ * - 멤버별 세션 수를 세서 마지막 세션이 끊겼을 때만 오프라인 처리 (탭 여러 개 대응)
+ * - 세션마다 마지막 수신 시각(하트비트 포함)을 기록하고, session-timeout-ms 동안 조용한 세션은 정리
+ * - 접속/종료는 팀별로 모아서 broadcast-interval-ms마다 변경분(joined/left)만 PRESENCE_DELTA로 발송
+ *   (같은 주기 안의 종료 후 재접속 = 새로고침은 서로 상쇄되어 발송하지 않음)
+ * - 전체 목록은 구독 시 한 번만 스냅샷으로 응답 (/app/presence/{teamId})
+ * - 클러스터 모드에서는 다른 노드의 변경분(nodeJoined/nodeLeft)과 주기적인 PRESENCE_SYNC로 노드별 접속자를 맞춤
+ */
+@Slf4j
 @Service
 public class PresenceService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    public static final String EVENT_DELTA = "PRESENCE_DELTA";
+    public static final String EVENT_SNAPSHOT = "PRESENCE_SNAPSHOT";
+    public static final String EVENT_SYNC = "PRESENCE_SYNC";
 
-    // teamId -> Set of online memberNo
-    private final Map<Integer, Set<Integer>> teamOnlineMembers = new ConcurrentHashMap<>();
+    private static final String TEAM_TOPIC = "/topic/team/";
+    private static final String SYNC_TOPIC = "/topic/cluster/presence";
 
-    // sessionId -> memberNo
-    private final Map<String, Integer> sessionMemberMap = new ConcurrentHashMap<>();
+    private final ClusterEventBus clusterEventBus;
 
-    // sessionId -> Set of teamIds
-    private final Map<String, Set<Integer>> sessionTeamsMap = new ConcurrentHashMap<>();
+    @Value("${synodos.presence.session-timeout-ms:30000}")
+    private long sessionTimeoutMs;
 
-    public PresenceService(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    @Value("${synodos.presence.sync-interval-ms:30000}")
+    private long syncIntervalMs;
+
+    // sessionId -> 세션 정보
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+
+    // teamId -> 이 노드의 접속 상태 (모든 변경은 compute 안에서 수행)
+    private final Map<Integer, TeamPresence> teams = new ConcurrentHashMap<>();
+
+    // 다음 주기에 변경분을 보낼 팀
+    private final Set<Integer> dirtyTeams = ConcurrentHashMap.newKeySet();
+
+    // 다른 노드 ID -> (teamId -> 그 노드에 접속한 memberNo) - remoteLock으로 보호
+    private final Map<String, Map<Integer, IntCountMap>> remoteMembers = new HashMap<>();
+    private final Map<String, Long> remoteNodeSeen = new HashMap<>();
+    private final Object remoteLock = new Object();
+
+    private final AtomicLong deltaFrames = new AtomicLong();
+    private final AtomicLong joinedCount = new AtomicLong();
+    private final AtomicLong leftCount = new AtomicLong();
+    private final AtomicLong reapedSessions = new AtomicLong();
+
+    private static final class SessionPresence {
+        private final int memberNo;
+        // 이 세션이 들어가 있는 teamId (값은 항상 1) - 세션 객체로 동기화
+        private final IntCountMap teams = new IntCountMap();
+        private volatile long lastSeen = System.currentTimeMillis();
+
+        private SessionPresence(int memberNo) {
+            this.memberNo = memberNo;
+        }
+    }
+
+    private static final class TeamPresence {
+        // memberNo -> 이 노드에 열린 세션 수
+        private final IntCountMap sessionCounts = new IntCountMap();
+        // memberNo -> +1 접속 / -1 종료 (다음 발송분, 상쇄되면 제거)
+        private final IntCountMap pending = new IntCountMap();
+
+        private boolean isIdle() {
+            return sessionCounts.isEmpty() && pending.isEmpty();
+        }
+    }
+
+    public PresenceService(ClusterEventBus clusterEventBus) {
+        this.clusterEventBus = clusterEventBus;
     }
 
     public void userConnected(String sessionId, Integer memberNo) {
-        sessionMemberMap.put(sessionId, memberNo);
-        sessionTeamsMap.put(sessionId, ConcurrentHashMap.newKeySet());
+        if (memberNo == null || memberNo == 0) {
+            return;
+        }
+        SessionPresence existing = sessions.get(sessionId);
+        if (existing != null && existing.memberNo == memberNo) {
+            existing.lastSeen = System.currentTimeMillis();
+            return;
+        }
+        if (existing != null) {
+            // 같은 세션에서 다른 계정으로 바뀐 경우 이전 계정의 접속부터 정리
+            userDisconnected(sessionId);
+        }
+        sessions.putIfAbsent(sessionId, new SessionPresence(memberNo));
     }
 
     public void userDisconnected(String sessionId) {
-        Integer memberNo = sessionMemberMap.remove(sessionId);
-        Set<Integer> teams = sessionTeamsMap.remove(sessionId);
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        int[] joinedTeams;
+        synchronized (session) {
+            joinedTeams = session.teams.keys();
+            session.teams.clear();
+        }
+        for (int teamId : joinedTeams) {
+            adjust(teamId, session.memberNo, -1);
+        }
+    }
 
-        if (memberNo != null && teams != null) {
-            for (Integer teamId : teams) {
-                removeFromTeam(teamId, memberNo);
-                broadcastPresence(teamId);
+    public void joinTeam(String sessionId, Integer teamId, Integer memberNo) {
+        if (teamId == null || teamId == 0) {
+            return;
+        }
+        userConnected(sessionId, memberNo);
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            // 같은 세션의 중복 join은 한 번만 셈
+            if (session.teams.get(teamId) != 0) {
+                return;
             }
+            session.teams.add(teamId, 1);
         }
+        adjust(teamId, session.memberNo, 1);
     }
 
-    public void joinTeam(String sessionId, Integer teamId, Integer memberNo) {
-        // Add to session's teams
-        sessionTeamsMap.computeIfAbsent(sessionId, k -> ConcurrentHashMap.newKeySet()).add(teamId);
+    public void leaveTeam(String sessionId, Integer teamId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null || teamId == null) {
+            return;
+        }
+        synchronized (session) {
+            if (session.teams.get(teamId) == 0) {
+                return;
+            }
+            session.teams.remove(teamId);
+        }
+        adjust(teamId, session.memberNo, -1);
+    }
 
-        // Add to team's online members
-        teamOnlineMembers.computeIfAbsent(teamId, k -> ConcurrentHashMap.newKeySet()).add(memberNo);
+    /**
+     * 세션에서 프레임(하트비트 포함)을 받을 때마다 호출 - 만료 판단용
+     */
+    public void touch(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionPresence session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastSeen = System.currentTimeMillis();
+        }
+    }
 
-        // Broadcast updated presence
-        broadcastPresence(teamId);
+    // 멤버 세션 수 변경, 0 <-> 1 전환만 변경분으로 기록
+    private void adjust(int teamId, int memberNo, int delta) {
+        teams.compute(teamId, (key, team) -> {
+            if (team == null) {
+                if (delta < 0) {
+                    return null;
+                }
+                team = new TeamPresence();
+            }
+            int before = team.sessionCounts.get(memberNo);
+            if (before + delta < 0) {
+                return team.isIdle() ? null : team;
+            }
+            int after = team.sessionCounts.add(memberNo, delta);
+            if (before == 0 && after > 0) {
+                team.pending.add(memberNo, 1);
+            } else if (before > 0 && after == 0) {
+                team.pending.add(memberNo, -1);
+            }
+            if (!team.pending.isEmpty()) {
+                dirtyTeams.add(teamId);
+            }
+            return team.isIdle() ? null : team;
+        });
     }
 
-    public void leaveTeam(String sessionId, Integer teamId) {
-        Integer memberNo = sessionMemberMap.get(sessionId);
-        Set<Integer> teams = sessionTeamsMap.get(sessionId);
+    // 이 노드 + 다른 노드 접속자 합집합 (구독 시 스냅샷용)
+    public List<Integer> getOnlineMembers(Integer teamId) {
+        IntCountMap merged = new IntCountMap();
+        teams.computeIfPresent(teamId, (key, team) -> {
+            for (int memberNo : team.sessionCounts.keys()) {
+                merged.add(memberNo, 1);
+            }
+            return team;
+        });
+        synchronized (remoteLock) {
+            for (Map<Integer, IntCountMap> byTeam : remoteMembers.values()) {
+                IntCountMap members = byTeam.get(teamId);
+                if (members != null) {
+                    for (int memberNo : members.keys()) {
+                        if (merged.get(memberNo) == 0) {
+                            merged.add(memberNo, 1);
+                        }
+                    }
+                }
+            }
+        }
+        List<Integer> result = new ArrayList<>(merged.size());
+        for (int memberNo : merged.keys()) {
+            result.add(memberNo);
+        }
+        return result;
+    }
 
-        if (teams != null) {
-            teams.remove(teamId);
+    public Map<String, Object> getSnapshot(Integer teamId) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("eventType", EVENT_SNAPSHOT);
+        snapshot.put("payload", getOnlineMembers(teamId));
+        return snapshot;
+    }
+
+    /**
+     * 팀별 변경분 발송
+     * - 이 노드에서 처음 접속/마지막 종료된 멤버 중 다른 노드에도 없는 멤버만 joined/left로 클라이언트에 알림
+     * - 클러스터 모드면 노드 단위 변경분(nodeJoined/nodeLeft)도 함께 보내서 다른 노드가 접속자 목록을 맞춤
+     */
+    @Scheduled(fixedDelayString = "${synodos.presence.broadcast-interval-ms:1000}")
+    public void flushDeltas() {
+        Iterator<Integer> it = dirtyTeams.iterator();
+        while (it.hasNext()) {
+            Integer teamId = it.next();
+            it.remove();
+            List<Integer> nodeJoined = new ArrayList<>();
+            List<Integer> nodeLeft = new ArrayList<>();
+            teams.computeIfPresent(teamId, (key, team) -> {
+                for (int memberNo : team.pending.keys()) {
+                    if (team.pending.get(memberNo) > 0) {
+                        nodeJoined.add(memberNo);
+                    } else {
+                        nodeLeft.add(memberNo);
+                    }
+                }
+                team.pending.clear();
+                return team.isIdle() ? null : team;
+            });
+            if (!nodeJoined.isEmpty() || !nodeLeft.isEmpty()) {
+                broadcastDelta(teamId, nodeJoined, nodeLeft);
+            }
         }
+    }
 
-        if (memberNo != null) {
-            removeFromTeam(teamId, memberNo);
-            broadcastPresence(teamId);
+    private void broadcastDelta(int teamId, List<Integer> nodeJoined, List<Integer> nodeLeft) {
+        List<Integer> joined = new ArrayList<>(nodeJoined.size());
+        List<Integer> left = new ArrayList<>(nodeLeft.size());
+        synchronized (remoteLock) {
+            for (Integer memberNo : nodeJoined) {
+                if (!isOnlineRemotely(teamId, memberNo)) {
+                    joined.add(memberNo);
+                }
+            }
+            for (Integer memberNo : nodeLeft) {
+                if (!isOnlineRemotely(teamId, memberNo)) {
+                    left.add(memberNo);
+                }
+            }
+        }
+        boolean clustered = clusterEventBus.isClustered();
+        if (joined.isEmpty() && left.isEmpty() && !clustered) {
+            return;
         }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("joined", joined);
+        payload.put("left", left);
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("eventType", EVENT_DELTA);
+        event.put("payload", payload);
+        if (clustered) {
+            event.put("node", clusterEventBus.getNodeId());
+            event.put("nodeJoined", nodeJoined);
+            event.put("nodeLeft", nodeLeft);
+        }
+        deltaFrames.incrementAndGet();
+        joinedCount.addAndGet(joined.size());
+        leftCount.addAndGet(left.size());
+        clusterEventBus.broadcast(TEAM_TOPIC + teamId, event);
     }
 
-    private void removeFromTeam(Integer teamId, Integer memberNo) {
-        Set<Integer> members = teamOnlineMembers.get(teamId);
-        if (members != null) {
-            members.remove(memberNo);
+    private boolean isOnlineRemotely(int teamId, int memberNo) {
+        for (Map<Integer, IntCountMap> byTeam : remoteMembers.values()) {
+            IntCountMap members = byTeam.get(teamId);
+            if (members != null && members.get(memberNo) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 하트비트가 끊긴 세션 정리 (브라우저 강제 종료, 네트워크 단절 등으로 disconnect 이벤트가 오지 않은 경우)
+     * - 클러스터 모드에서는 오래 소식이 없는 노드의 접속자도 제거
+     */
+    @Scheduled(fixedDelayString = "${synodos.presence.sweep-interval-ms:10000}")
+    public void reapExpiredSessions() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, SessionPresence> entry : sessions.entrySet()) {
+            if (now - entry.getValue().lastSeen > sessionTimeoutMs) {
+                log.debug("Presence session {} expired (member {})", entry.getKey(), entry.getValue().memberNo);
+                reapedSessions.incrementAndGet();
+                userDisconnected(entry.getKey());
+            }
+        }
+        synchronized (remoteLock) {
+            remoteNodeSeen.entrySet().removeIf(node -> {
+                if (now - node.getValue() <= syncIntervalMs * 3) {
+                    return false;
+                }
+                log.info("Presence: dropping members of silent node {}", node.getKey());
+                remoteMembers.remove(node.getKey());
+                return true;
+            });
+        }
+    }
+
+    // 클러스터 모드: 이 노드의 전체 접속자를 주기적으로 발행 (놓친 변경분 보정 + 새로 뜬 노드 초기화)
+    @Scheduled(fixedDelayString = "${synodos.presence.sync-interval-ms:30000}")
+    public void publishNodeSync() {
+        if (!clusterEventBus.isClustered()) {
+            return;
+        }
+        Map<String, int[]> byTeam = new LinkedHashMap<>();
+        for (Integer teamId : teams.keySet()) {
+            teams.computeIfPresent(teamId, (key, team) -> {
+                if (!team.sessionCounts.isEmpty()) {
+                    byTeam.put(String.valueOf(teamId), team.sessionCounts.keys());
+                }
+                return team;
+            });
+        }
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("eventType", EVENT_SYNC);
+        event.put("node", clusterEventBus.getNodeId());
+        event.put("teams", byTeam);
+        clusterEventBus.broadcast(SYNC_TOPIC, event);
+    }
+
+    /**
+     * 다른 노드의 PRESENCE_DELTA / PRESENCE_SYNC 수신 시 그 노드의 접속자 목록 갱신
+     */
+    @EventListener
+    public void onClusterMessage(ClusterMessage message) {
+        JsonNode payload = message.getPayload();
+        if (payload == null || !payload.hasNonNull("node")) {
+            return;
+        }
+        String eventType = payload.path("eventType").asText();
+        String node = payload.get("node").asText();
+        if (EVENT_SYNC.equals(eventType) && SYNC_TOPIC.equals(message.getDestination())) {
+            applyNodeSync(node, payload.path("teams"));
+        } else if (EVENT_DELTA.equals(eventType) && message.getDestination().startsWith(TEAM_TOPIC)) {
+            int teamId;
+            try {
+                teamId = Integer.parseInt(message.getDestination().substring(TEAM_TOPIC.length()));
+            } catch (NumberFormatException e) {
+                return;
+            }
+            applyNodeDelta(node, teamId, payload.path("nodeJoined"), payload.path("nodeLeft"));
+        }
+    }
+
+    private void applyNodeDelta(String node, int teamId, JsonNode joined, JsonNode left) {
+        synchronized (remoteLock) {
+            remoteNodeSeen.put(node, System.currentTimeMillis());
+            Map<Integer, IntCountMap> byTeam = remoteMembers.computeIfAbsent(node, k -> new HashMap<>());
+            IntCountMap members = byTeam.computeIfAbsent(teamId, k -> new IntCountMap());
+            joined.forEach(memberNo -> {
+                if (members.get(memberNo.asInt()) == 0) {
+                    members.add(memberNo.asInt(), 1);
+                }
+            });
+            left.forEach(memberNo -> members.remove(memberNo.asInt()));
             if (members.isEmpty()) {
-                teamOnlineMembers.remove(teamId);
+                byTeam.remove(teamId);
             }
         }
     }
 
-    public Set<Integer> getOnlineMembers(Integer teamId) {
-        return teamOnlineMembers.getOrDefault(teamId, Collections.emptySet());
+    private void applyNodeSync(String node, JsonNode teamsNode) {
+        Map<Integer, IntCountMap> byTeam = new HashMap<>();
+        teamsNode.fields().forEachRemaining(entry -> {
+            IntCountMap members = new IntCountMap();
+            entry.getValue().forEach(memberNo -> {
+                if (members.get(memberNo.asInt()) == 0) {
+                    members.add(memberNo.asInt(), 1);
+                }
+            });
+            try {
+                byTeam.put(Integer.valueOf(entry.getKey()), members);
+            } catch (NumberFormatException e) {
+                // 형식이 잘못된 팀 ID - 무시
+            }
+        });
+        synchronized (remoteLock) {
+            remoteNodeSeen.put(node, System.currentTimeMillis());
+            remoteMembers.put(node, byTeam);
+        }
     }
 
-    private void broadcastPresence(Integer teamId) {
-        Set<Integer> onlineMembers = getOnlineMembers(teamId);
-        Map<String, Object> event = Map.of(
-                "eventType", "PRESENCE_UPDATE",
-                "payload", onlineMembers
-        );
-        messagingTemplate.convertAndSend("/topic/team/" + teamId, event);
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessions", sessions.size());
+        stats.put("teams", teams.size());
+        stats.put("pendingTeams", dirtyTeams.size());
+        stats.put("deltaFrames", deltaFrames.get());
+        stats.put("joined", joinedCount.get());
+        stats.put("left", leftCount.get());
+        stats.put("reapedSessions", reapedSessions.get());
+        synchronized (remoteLock) {
+            stats.put("remoteNodes", remoteMembers.size());
+        }
+        return stats;
+    }
+
+    /**
+     * int -> int 카운트 맵 (선형 탐사, 박싱 없음)
+     * - 값이 0이 되면 엔트리를 지움, 키 0은 빈 칸 표시로 쓰므로 사용 불가 (memberNo/teamId는 1부터)
+     * - 동기화하지 않으므로 호출하는 쪽에서 보호해야 함
+     */
+    static final class IntCountMap {
+
+        private int[] keys = new int[8];
+        private int[] counts = new int[8];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return counts[i];
+                }
+            }
+            return 0;
+        }
+
+        // delta를 더한 뒤의 값 반환
+        int add(int key, int delta) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != 0) {
+                if (keys[i] == key) {
+                    int value = counts[i] + delta;
+                    if (value == 0) {
+                        removeAt(i);
+                    } else {
+                        counts[i] = value;
+                    }
+                    return value;
+                }
+                i = (i + 1) & mask;
+            }
+            if (delta == 0) {
+                return 0;
+            }
+            keys[i] = key;
+            counts[i] = delta;
+            if (++size * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            return delta;
+        }
+
+        void remove(int key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    removeAt(i);
+                    return;
+                }
+            }
+        }
+
+        void clear() {
+            if (keys.length > 64) {
+                keys = new int[8];
+                counts = new int[8];
+            } else {
+                Arrays.fill(keys, 0);
+                Arrays.fill(counts, 0);
+            }
+            size = 0;
+        }
+
+        int[] keys() {
+            int[] result = new int[size];
+            int n = 0;
+            for (int key : keys) {
+                if (key != 0) {
+                    result[n++] = key;
+                }
+            }
+            return result;
+        }
+
+        // 뒤쪽 엔트리를 당겨와서 탐사 체인이 끊기지 않게 삭제
+        private void removeAt(int hole) {
+            int mask = keys.length - 1;
+            int i = hole;
+            int j = hole;
+            while (true) {
+                j = (j + 1) & mask;
+                if (keys[j] == 0) {
+                    break;
+                }
+                int home = slot(keys[j], mask);
+                boolean movable = j > i ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    keys[i] = keys[j];
+                    counts[i] = counts[j];
+                    i = j;
+                }
+            }
+            keys[i] = 0;
+            counts[i] = 0;
+            size--;
+        }
+
+        private void rehash(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new int[capacity];
+            counts = new int[capacity];
+            int mask = capacity - 1;
+            for (int n = 0; n < oldKeys.length; n++) {
+                if (oldKeys[n] != 0) {
+                    int i = slot(oldKeys[n], mask);
+                    while (keys[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[n];
+                    counts[i] = oldCounts[n];
+                }
+            }
+        }
+
+        private static int slot(int key, int mask) {
+            int h = key * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
     }
 }
@@ -1,18 +1,19 @@
 package com.example.demo.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.demo.dao.TaskAssigneeDao;
 import com.example.demo.dao.TaskDao;
-import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.dao.TaskGitHubIssueDao;
 import com.example.demo.model.Task;
 import com.example.demo.model.TaskAssignee;
 import com.example.demo.model.TaskGitHubIssue;
-import com.example.demo.model.SynodosColumn;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -25,9 +26,6 @@ public class TaskAssigneeService {
 	@Autowired
 	private TaskDao taskDao;
 
-	@Autowired
-	private SynodosColumnDao columnDao;
-
 	@Autowired
 	private TaskGitHubIssueDao taskGitHubIssueDao;
 
@@ -39,7 +37,7 @@ public class TaskAssigneeService {
 
 	@Lazy
 	@Autowired
-	private GitHubIssueSyncService gitHubIssueSyncService;
+	private GitHubSyncOutboxService gitHubSyncOutboxService;
 
 	// 담당자 추가
 	public int addAssignee(TaskAssignee assignee) {
@@ -60,14 +58,14 @@ public class TaskAssigneeService {
 			if (assignee.getMemberNo() != senderNo) {
 				Task task = taskDao.content(assignee.getTaskId());
 				if (task != null) {
-					SynodosColumn column = columnDao.content(task.getColumnId());
-					if (column != null) {
+					Integer teamId = task.getTeamId();
+					if (teamId != null) {
 						persistentNotificationService.notifyTaskAssignee(
 							assignee.getMemberNo(),
 							senderNo,
 							task.getTaskId(),
 							task.getTitle(),
-							column.getTeamId()
+							teamId
 						);
 					}
 				}
@@ -133,7 +131,12 @@ public class TaskAssigneeService {
 		int count = 0;
 		if (memberNos != null) {
 			Task task = taskDao.content(taskId);
-			SynodosColumn column = task != null ? columnDao.content(task.getColumnId()) : null;
+			Integer teamId = task != null ? task.getTeamId() : null;
+			Set<Integer> previousNos = new HashSet<>();
+			for (TaskAssignee existing : existingAssignees) {
+				previousNos.add(existing.getMemberNo());
+			}
+			List<Integer> recipientNos = new ArrayList<>();
 
 			for (Integer memberNo : memberNos) {
 				TaskAssignee assignee = new TaskAssignee();
@@ -142,21 +145,22 @@ public class TaskAssigneeService {
 				assignee.setAssignedBy(senderNo);
 				count += dao.insert(assignee);
 
-				// 새로 추가된 담당자에게 알림 (본인 제외, 기존에 없던 담당자만)
-				if (memberNo != senderNo && task != null && column != null) {
-					boolean wasAssigned = existingAssignees.stream()
-						.anyMatch(ea -> ea.getMemberNo() == memberNo);
-					if (!wasAssigned) {
-						persistentNotificationService.notifyTaskAssignee(
-							memberNo,
-							senderNo,
-							task.getTaskId(),
-							task.getTitle(),
-							column.getTeamId()
-						);
-					}
+				// 새로 추가된 담당자만 수신자로 모음 (본인 제외, 기존에 없던 담당자만)
+				if (memberNo != senderNo && !previousNos.contains(memberNo)) {
+					recipientNos.add(memberNo);
 				}
 			}
+
+			// 수신자 전체를 한 번의 fan-out 으로 발송
+			if (!recipientNos.isEmpty() && task != null && teamId != null) {
+				persistentNotificationService.notifyTaskAssignee(
+					recipientNos,
+					senderNo,
+					task.getTaskId(),
+					task.getTitle(),
+					teamId
+				);
+			}
 		}
 
 		notifyTaskUpdate(taskId);
@@ -186,9 +190,9 @@ public class TaskAssigneeService {
 	private void notifyTaskUpdate(int taskId) {
 		Task task = taskDao.content(taskId);
 		if (task != null) {
-			SynodosColumn column = columnDao.content(task.getColumnId());
-			if (column != null) {
-				notificationService.notifyTaskUpdated(task, column.getTeamId());
+			Integer teamId = task.getTeamId();
+			if (teamId != null) {
+				notificationService.notifyTaskUpdated(task, teamId);
 			}
 		}
 	}
@@ -199,12 +203,12 @@ public class TaskAssigneeService {
 			// GitHub 이슈가 연결되어 있는지 확인
 			TaskGitHubIssue mapping = taskGitHubIssueDao.findByTaskId(taskId);
 			if (mapping != null) {
-				gitHubIssueSyncService.syncTaskToGitHub(taskId, memberNo);
-				log.info("Synced assignees to GitHub issue #{} for task #{}", mapping.getIssueNumber(), taskId);
+				gitHubSyncOutboxService.enqueueTaskUpdate(taskId, memberNo);
+				log.info("Queued assignee sync to GitHub issue #{} for task #{}", mapping.getIssueNumber(), taskId);
 			}
 		} catch (Exception e) {
 			// GitHub 동기화 실패는 담당자 변경을 막지 않음
-			log.warn("Failed to sync assignees to GitHub for task #{}: {}", taskId, e.getMessage());
+			log.warn("Failed to queue assignee sync to GitHub for task #{}: {}", taskId, e.getMessage());
 		}
 	}
 }
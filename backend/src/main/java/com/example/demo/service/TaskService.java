@@ -1,20 +1,31 @@
 package com.example.demo.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.example.demo.dao.TaskDao;
-import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.dao.TaskAssigneeDao;
 import com.example.demo.dao.TaskVerifierDao;
 import com.example.demo.dao.TaskGitHubIssueDao;
 import com.example.demo.dao.TeamDao;
 import com.example.demo.dao.MemberDao;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.Task;
-import com.example.demo.model.SynodosColumn;
+import com.example.demo.model.TaskAssignee;
+import com.example.demo.model.TaskCard;
+import com.example.demo.model.TaskVerifier;
 import com.example.demo.model.TaskGitHubIssue;
 import com.example.demo.model.Team;
 import com.example.demo.model.Member;
@@ -26,11 +37,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 @Service
 public class TaskService {
 
-	@Autowired
-	private TaskDao dao;
+	// 스트리밍 시 담당자/검증자를 한 번에 채우는 묶음 크기
+	private static final int STREAM_CHUNK = 200;
 
 	@Autowired
-	private SynodosColumnDao columnDao;
+	private TaskDao dao;
 
 	@Autowired
 	private TaskAssigneeDao taskAssigneeDao;
@@ -48,7 +59,7 @@ public class TaskService {
 	private TaskGitHubIssueDao taskGitHubIssueDao;
 
 	@Autowired
-	private GitHubIssueSyncService gitHubIssueSyncService;
+	private GitHubSyncOutboxService gitHubSyncOutboxService;
 
 	@Autowired
 	private MemberDao memberDao;
@@ -56,6 +67,12 @@ public class TaskService {
 	@Autowired
 	private TeamDao teamDao;
 
+	@Autowired
+	private BoardService boardService;
+
+	@Value("${synodos.task-position.rebalance-min-gap:4}")
+	private int rebalanceMinGap;
+
 	// Helper method to get current member's no from security context
 	private Integer getCurrentMemberNo() {
 		try {
@@ -97,12 +114,12 @@ public class TaskService {
 			}
 			log.info("[GitHub Sync] Member has GitHub token, proceeding with sync");
 
-			// Sync to GitHub
-			gitHubIssueSyncService.syncTaskToGitHub(taskId, memberNo);
-			log.info("[GitHub Sync] SUCCESS: Synced Task #{} to GitHub Issue #{}", taskId, mapping.getIssueNumber());
+			// Outbox에 등록 (전송은 백그라운드 디스패처가 처리)
+			gitHubSyncOutboxService.enqueueTaskUpdate(taskId, memberNo);
+			log.info("[GitHub Sync] Queued Task #{} for GitHub Issue #{}", taskId, mapping.getIssueNumber());
 		} catch (Exception e) {
 			// Log but don't fail the main operation
-			log.error("[GitHub Sync] FAILED to sync task #{} to GitHub: {}", taskId, e.getMessage(), e);
+			log.error("[GitHub Sync] FAILED to queue task #{} for GitHub sync: {}", taskId, e.getMessage(), e);
 		}
 	}
 
@@ -113,12 +130,14 @@ public class TaskService {
 		}
 	}
 
-	// Helper method to populate assignees for a list of tasks
-	private void populateAssignees(List<Task> tasks) {
-		if (tasks != null) {
-			for (Task task : tasks) {
-				populateAssignees(task);
-			}
+	// Helper method to populate assignees for a list of tasks (single IN query, grouped in memory)
+	private void populateAssignees(List<TaskCard> tasks, List<Integer> taskIds) {
+		Map<Integer, List<TaskAssignee>> byTask = new HashMap<>();
+		for (TaskAssignee assignee : taskAssigneeDao.listByTaskIds(taskIds)) {
+			byTask.computeIfAbsent(assignee.getTaskId(), k -> new ArrayList<>()).add(assignee);
+		}
+		for (TaskCard task : tasks) {
+			task.setAssignees(byTask.getOrDefault(task.getTaskId(), new ArrayList<>()));
 		}
 	}
 
@@ -129,12 +148,14 @@ public class TaskService {
 		}
 	}
 
-	// Helper method to populate verifiers for a list of tasks
-	private void populateVerifiers(List<Task> tasks) {
-		if (tasks != null) {
-			for (Task task : tasks) {
-				populateVerifiers(task);
-			}
+	// Helper method to populate verifiers for a list of tasks (single IN query, grouped in memory)
+	private void populateVerifiers(List<TaskCard> tasks, List<Integer> taskIds) {
+		Map<Integer, List<TaskVerifier>> byTask = new HashMap<>();
+		for (TaskVerifier verifier : taskVerifierDao.listByTaskIds(taskIds)) {
+			byTask.computeIfAbsent(verifier.getTaskId(), k -> new ArrayList<>()).add(verifier);
+		}
+		for (TaskCard task : tasks) {
+			task.setVerifiers(byTask.getOrDefault(task.getTaskId(), new ArrayList<>()));
 		}
 	}
 
@@ -145,30 +166,32 @@ public class TaskService {
 	}
 
 	// Helper method to populate all relations for a list of tasks
-	private void populateRelations(List<Task> tasks) {
-		populateAssignees(tasks);
-		populateVerifiers(tasks);
+	// - 태스크 수와 관계없이 담당자/검증자 쿼리 2회로 처리
+	private void populateRelations(List<TaskCard> tasks) {
+		if (tasks == null || tasks.isEmpty()) {
+			return;
+		}
+		List<Integer> taskIds = new ArrayList<>(tasks.size());
+		for (TaskCard task : tasks) {
+			taskIds.add(task.getTaskId());
+		}
+		populateAssignees(tasks, taskIds);
+		populateVerifiers(tasks, taskIds);
 	}
 
+	// 생성된 카드(팀 ID 포함)를 INSERT ... RETURNING으로 바로 받아서 브로드캐스트
 	public int insert(Task task) {
-		int result = dao.insert(task);
-		if (result == 1) {
-			SynodosColumn column = columnDao.content(task.getColumnId());
-			if (column != null) {
-				int teamId = column.getTeamId();
-
-				// Fetch the latest task in this column to get the created one
-				List<Task> tasks = dao.listByColumn(task.getColumnId());
-				if (!tasks.isEmpty()) {
-					Task created = tasks.get(tasks.size() - 1);
-					notificationService.notifyTaskCreated(created, teamId);
-
-					// GitHub Issue 자동 생성
-					createGitHubIssueIfEnabled(created.getTaskId(), teamId);
-				}
-			}
+		Task created = dao.insertReturning(task);
+		if (created == null) {
+			return 0;
 		}
-		return result;
+		task.setTaskId(created.getTaskId());
+		int teamId = created.getTeamId();
+		notificationService.notifyTaskCreated(created, teamId);
+
+		// GitHub Issue 자동 생성
+		createGitHubIssueIfEnabled(created.getTaskId(), teamId);
+		return 1;
 	}
 
 	/**
@@ -205,32 +228,65 @@ public class TaskService {
 				return;
 			}
 
-			log.info("[GitHub Auto-Sync] 조건 충족! Task #{} → GitHub Issue 생성 시작", taskId);
-			// GitHub Issue 생성
-			gitHubIssueSyncService.createIssueFromTask(taskId, teamId, memberNo);
-			log.info("[GitHub Auto-Sync] 성공: Task #{} → GitHub Issue 생성 완료", taskId);
+			log.info("[GitHub Auto-Sync] 조건 충족! Task #{} → GitHub Issue 생성 등록", taskId);
+			// GitHub Issue 생성 (Outbox에 등록, 백그라운드에서 생성)
+			gitHubSyncOutboxService.enqueueIssueCreate(taskId, memberNo);
 		} catch (Exception e) {
 			// 실패해도 태스크 생성은 성공으로 처리
 			log.warn("[GitHub Auto-Sync] 실패: Task #{} - {}", taskId, e.getMessage());
 		}
 	}
 
-	public List<Task> listByColumn(int columnId) {
-		List<Task> tasks = dao.listByColumn(columnId);
+	public List<TaskCard> listByColumn(int columnId) {
+		List<TaskCard> tasks = dao.listByColumn(columnId);
 		populateRelations(tasks);
 		return tasks;
 	}
 
-	public List<Task> listAll() {
-		List<Task> tasks = dao.listAll();
+	public List<TaskCard> listAll() {
+		List<TaskCard> tasks = dao.listAll();
 		populateRelations(tasks);
 		return tasks;
 	}
 
-	public List<Task> listByTeam(int teamId) {
-		List<Task> tasks = dao.listByTeam(teamId);
-		populateRelations(tasks);
-		return tasks;
+	// 전체 태스크 목록 (키셋 페이지, 커서 = 마지막 task_id)
+	public CursorPage<TaskCard> listAllPage(String cursor, int size) {
+		String[] keys = CursorPage.decode(cursor, 1);
+		Integer afterTaskId = keys != null ? Integer.valueOf(keys[0]) : null;
+		List<TaskCard> fetched = dao.listAllPage(afterTaskId, size + 1);
+		CursorPage<TaskCard> page = CursorPage.of(fetched, size, t -> new Object[] { t.getTaskId() });
+		populateRelations(page.getItems());
+		return page;
+	}
+
+	// 전체 태스크 스트리밍 (호출 스레드에서 트랜잭션 안에 커서를 열어야 함)
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<TaskCard> sink) {
+		try (Cursor<TaskCard> cursor = dao.streamAll()) {
+			emitInChunks(cursor, sink);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// 커서 결과를 STREAM_CHUNK 단위로 모아 관계 정보를 채운 뒤 내보냄
+	private void emitInChunks(Cursor<TaskCard> cursor, Consumer<TaskCard> sink) {
+		List<TaskCard> chunk = new ArrayList<>(STREAM_CHUNK);
+		for (TaskCard task : cursor) {
+			chunk.add(task);
+			if (chunk.size() == STREAM_CHUNK) {
+				populateRelations(chunk);
+				chunk.forEach(sink);
+				chunk.clear();
+			}
+		}
+		populateRelations(chunk);
+		chunk.forEach(sink);
+	}
+
+	// 팀별 태스크 목록 (보드 캐시 사용)
+	public List<TaskCard> listByTeam(int teamId) {
+		return boardService.getBoardTasks(teamId);
 	}
 
 	public Task content(int taskId) {
@@ -240,75 +296,135 @@ public class TaskService {
 	}
 
 	public int update(Task task) {
-		int result = dao.update(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					notificationService.notifyTaskUpdated(updated, column.getTeamId());
-				}
-			}
-			// GitHub 자동 동기화
-			syncToGitHubIfLinked(task.getTaskId());
+		Task updated = dao.updateReturning(task);
+		if (updated == null) {
+			return 0;
 		}
-		return result;
+		notificationService.notifyTaskUpdated(updated, updated.getTeamId());
+		// GitHub 자동 동기화
+		syncToGitHubIfLinked(task.getTaskId());
+		return 1;
 	}
 
 	// 태스크 업데이트 + 담당자에게 알림 발송
 	public int updateWithNotification(Task task, int senderNo, String changeDescription) {
-		int result = dao.update(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					// WebSocket 알림
-					notificationService.notifyTaskUpdated(updated, column.getTeamId());
-
-					// 담당자에게 영구 알림 (본인 제외)
-					Integer assignee = updated.getAssigneeNo();
-					if (assignee != null && assignee != senderNo) {
-						persistentNotificationService.notifyTaskUpdated(
-							assignee,
-							senderNo,
-							updated.getTaskId(),
-							updated.getTitle(),
-							changeDescription
-						);
-					}
-				}
-			}
-			// GitHub 자동 동기화
-			syncToGitHubIfLinked(task.getTaskId());
+		Task updated = dao.updateReturning(task);
+		if (updated == null) {
+			return 0;
+		}
+		// WebSocket 알림
+		notificationService.notifyTaskUpdated(updated, updated.getTeamId());
+
+		// 담당자에게 영구 알림 (본인 제외)
+		Integer assignee = updated.getAssigneeNo();
+		if (assignee != null && assignee != senderNo) {
+			persistentNotificationService.notifyTaskUpdated(
+				assignee,
+				senderNo,
+				updated.getTaskId(),
+				updated.getTitle(),
+				changeDescription
+			);
 		}
-		return result;
+		// GitHub 자동 동기화
+		syncToGitHubIfLinked(task.getTaskId());
+		return 1;
 	}
 
 	public int delete(int taskId) {
-		Task task = dao.content(taskId);
-		int result = dao.delete(taskId);
-		if (result == 1 && task != null) {
-			SynodosColumn column = columnDao.content(task.getColumnId());
-			if (column != null) {
-				notificationService.notifyTaskDeleted(column.getTeamId(), taskId);
-			}
+		Integer teamId = dao.deleteReturningTeamId(taskId);
+		if (teamId == null) {
+			return 0;
 		}
-		return result;
+		notificationService.notifyTaskDeleted(teamId, taskId);
+		return 1;
 	}
 
+	// 태스크 이동 (task.position = 목적 컬럼에서의 순서, 1부터)
+	@Transactional
 	public int updatePosition(Task task) {
-		int result = dao.updatePosition(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					notificationService.notifyTaskMoved(updated, column.getTeamId());
+		List<Task> rebalanced = new ArrayList<>();
+		Task moved = moveToSlot(task, rebalanced);
+		if (moved == null) {
+			return 0;
+		}
+		if (rebalanced.isEmpty()) {
+			notificationService.notifyTaskMoved(moved, moved.getTeamId());
+		} else {
+			notificationService.notifyTasksMoved(mergeMoved(rebalanced, moved), moved.getTeamId());
+		}
+		return 1;
+	}
+
+	/**
+	 * 여러 카드 순서 변경을 한 트랜잭션으로 처리
+	 * - 요청 순서대로 이동을 적용하고, 바뀐 카드 전체를 TASK_MOVED 이벤트 하나로 발송
+	 */
+	@Transactional
+	public int updatePositions(List<Task> tasks) {
+		Map<Integer, List<Task>> movedByTeam = new LinkedHashMap<>();
+		int count = 0;
+		for (Task task : tasks) {
+			List<Task> rebalanced = new ArrayList<>();
+			Task moved = moveToSlot(task, rebalanced);
+			if (moved == null) {
+				continue;
+			}
+			List<Task> teamMoved = movedByTeam.computeIfAbsent(moved.getTeamId(), k -> new ArrayList<>());
+			for (Task card : rebalanced) {
+				teamMoved.removeIf(t -> t.getTaskId() == card.getTaskId());
+				teamMoved.add(card);
+			}
+			teamMoved.removeIf(t -> t.getTaskId() == moved.getTaskId());
+			teamMoved.add(moved);
+			count++;
+		}
+		for (Map.Entry<Integer, List<Task>> entry : movedByTeam.entrySet()) {
+			notificationService.notifyTasksMoved(entry.getValue(), entry.getKey());
+		}
+		return count;
+	}
+
+	// 중간값 이동, 간격이 부족하면 컬럼을 재배치한 뒤 한 번 더 시도 (재배치된 카드는 rebalanced에 담음)
+	private Task moveToSlot(Task task, List<Task> rebalanced) {
+		if (task.getPosition() < 1) {
+			task.setPosition(1);
+		}
+		Task moved = dao.moveToSlot(task);
+		if (moved == null) {
+			rebalanced.addAll(dao.rebalanceColumn(task.getColumnId()));
+			moved = dao.moveToSlot(task);
+		}
+		return moved;
+	}
+
+	private List<Task> mergeMoved(List<Task> rebalanced, Task moved) {
+		List<Task> merged = new ArrayList<>();
+		for (Task card : rebalanced) {
+			if (card.getTaskId() != moved.getTaskId()) {
+				merged.add(card);
+			}
+		}
+		merged.add(moved);
+		return merged;
+	}
+
+	/**
+	 * 정렬 키 간격이 부족해진 컬럼 재배치 (백그라운드)
+	 * - 이전 버전의 1, 2, 3... 형태 position도 첫 실행에서 간격 단위로 변환됨
+	 */
+	@Scheduled(initialDelay = 60000, fixedDelayString = "${synodos.task-position.rebalance-interval-ms:300000}")
+	public void rebalanceTightColumns() {
+		try {
+			for (Integer columnId : dao.listTightColumnIds(rebalanceMinGap)) {
+				List<Task> cards = dao.rebalanceColumn(columnId);
+				if (!cards.isEmpty()) {
+					notificationService.notifyTasksMoved(cards, cards.get(0).getTeamId());
 				}
 			}
+		} catch (Exception e) {
+			log.error("Task position rebalancing failed: {}", e.getMessage());
 		}
-		return result;
 	}
 
 	public int getMaxPosition(int columnId) {
@@ -317,70 +433,89 @@ public class TaskService {
 
 	// Issue Tracker 확장 메서드
 
-	public List<Task> listByAssignee(int memberNo) {
-		List<Task> tasks = dao.listByAssignee(memberNo);
+	public List<TaskCard> listByAssignee(int memberNo) {
+		List<TaskCard> tasks = dao.listByAssignee(memberNo);
 		populateRelations(tasks);
 		return tasks;
 	}
 
-	public List<Task> listByStatusAndTeam(int teamId, String workflowStatus) {
+	// 담당자별 태스크 목록 (키셋 페이지, 커서 = 우선순위 순위/마감일/task_id)
+	public CursorPage<TaskCard> listByAssigneePage(int memberNo, String cursor, int size) {
+		String[] keys = CursorPage.decode(cursor, 3);
+		Integer afterRank = keys != null ? Integer.valueOf(keys[0]) : null;
+		String afterDueDate = keys != null && !keys[1].isEmpty() ? keys[1] : null;
+		Integer afterTaskId = keys != null ? Integer.valueOf(keys[2]) : null;
+		List<TaskCard> fetched = dao.listByAssigneePage(memberNo, afterRank, afterDueDate, afterTaskId, size + 1);
+		CursorPage<TaskCard> page = CursorPage.of(fetched, size,
+			t -> new Object[] { priorityRank(t.getPriority()), t.getDueDate(), t.getTaskId() });
+		populateRelations(page.getItems());
+		return page;
+	}
+
+	@Transactional(readOnly = true)
+	public void streamByAssignee(int memberNo, Consumer<TaskCard> sink) {
+		try (Cursor<TaskCard> cursor = dao.streamByAssignee(memberNo)) {
+			emitInChunks(cursor, sink);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// task.xml assigneeSortKey 의 CASE 식과 같은 순위
+	private static int priorityRank(String priority) {
+		if (priority == null) return 5;
+		switch (priority) {
+			case "CRITICAL": return 1;
+			case "HIGH": return 2;
+			case "MEDIUM": return 3;
+			case "LOW": return 4;
+			default: return 5;
+		}
+	}
+
+	public List<TaskCard> listByStatusAndTeam(int teamId, String workflowStatus) {
 		Map<String, Object> params = new HashMap<>();
 		params.put("teamId", teamId);
 		params.put("workflowStatus", workflowStatus);
-		List<Task> tasks = dao.listByStatusAndTeam(params);
+		List<TaskCard> tasks = dao.listByStatusAndTeam(params);
 		populateRelations(tasks);
 		return tasks;
 	}
 
 	public int updateWorkflowStatus(Task task) {
-		int result = dao.updateWorkflowStatus(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				populateRelations(updated);
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					notificationService.notifyTaskUpdated(updated, column.getTeamId());
-				}
-			}
-			// GitHub 자동 동기화
-			syncToGitHubIfLinked(task.getTaskId());
+		Task updated = dao.updateWorkflowStatusReturning(task);
+		if (updated == null) {
+			return 0;
 		}
-		return result;
+		populateRelations(updated);
+		notificationService.notifyTaskUpdated(updated, updated.getTeamId());
+		// GitHub 자동 동기화
+		syncToGitHubIfLinked(task.getTaskId());
+		return 1;
 	}
 
 	// 반려 처리
 	public int updateRejection(Task task) {
-		int result = dao.updateRejection(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				populateRelations(updated);
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					notificationService.notifyTaskUpdated(updated, column.getTeamId());
-				}
-			}
-			// GitHub 자동 동기화
-			syncToGitHubIfLinked(task.getTaskId());
+		Task updated = dao.updateRejectionReturning(task);
+		if (updated == null) {
+			return 0;
 		}
-		return result;
+		populateRelations(updated);
+		notificationService.notifyTaskUpdated(updated, updated.getTeamId());
+		// GitHub 자동 동기화
+		syncToGitHubIfLinked(task.getTaskId());
+		return 1;
 	}
 
 	public int updateAssignee(Task task) {
-		int result = dao.updateAssignee(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					notificationService.notifyTaskUpdated(updated, column.getTeamId());
-				}
-			}
-			// GitHub 자동 동기화
-			syncToGitHubIfLinked(task.getTaskId());
+		Task updated = dao.updateAssigneeReturning(task);
+		if (updated == null) {
+			return 0;
 		}
-		return result;
+		notificationService.notifyTaskUpdated(updated, updated.getTeamId());
+		// GitHub 자동 동기화
+		syncToGitHubIfLinked(task.getTaskId());
+		return 1;
 	}
 
 	// 담당자 지정 + 알림 발송
@@ -389,67 +524,57 @@ public class TaskService {
 		Task existingTask = dao.content(task.getTaskId());
 		Integer previousAssignee = existingTask != null ? existingTask.getAssigneeNo() : null;
 
-		int result = dao.updateAssignee(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					// WebSocket 알림
-					notificationService.notifyTaskUpdated(updated, column.getTeamId());
-
-					// 새로 지정된 담당자에게 영구 알림 (본인 제외, 기존 담당자와 다른 경우)
-					Integer newAssignee = updated.getAssigneeNo();
-					if (newAssignee != null && newAssignee != senderNo &&
-						(previousAssignee == null || !previousAssignee.equals(newAssignee))) {
-						persistentNotificationService.notifyTaskAssignee(
-							newAssignee,
-							senderNo,
-							updated.getTaskId(),
-							updated.getTitle(),
-							column.getTeamId()
-						);
-					}
-				}
-			}
-			// GitHub 자동 동기화
-			syncToGitHubIfLinked(task.getTaskId());
+		Task updated = dao.updateAssigneeReturning(task);
+		if (updated == null) {
+			return 0;
+		}
+		// WebSocket 알림
+		notificationService.notifyTaskUpdated(updated, updated.getTeamId());
+
+		// 새로 지정된 담당자에게 영구 알림 (본인 제외, 기존 담당자와 다른 경우)
+		Integer newAssignee = updated.getAssigneeNo();
+		if (newAssignee != null && newAssignee != senderNo &&
+			(previousAssignee == null || !previousAssignee.equals(newAssignee))) {
+			persistentNotificationService.notifyTaskAssignee(
+				newAssignee,
+				senderNo,
+				updated.getTaskId(),
+				updated.getTitle(),
+				updated.getTeamId()
+			);
 		}
-		return result;
+		// GitHub 자동 동기화
+		syncToGitHubIfLinked(task.getTaskId());
+		return 1;
 	}
 
 	// 검증 대기 목록 (내가 검증자로 배정된 REVIEW 상태 태스크)
-	public List<Task> listPendingVerification(int memberNo) {
-		List<Task> tasks = dao.listPendingVerification(memberNo);
+	public List<TaskCard> listPendingVerification(int memberNo) {
+		List<TaskCard> tasks = dao.listPendingVerification(memberNo);
 		populateRelations(tasks);
 		return tasks;
 	}
 
 	// 캘린더용 날짜 범위 조회
-	public List<Task> listByDateRange(int teamId, java.util.Date startDate, java.util.Date endDate) {
+	public List<TaskCard> listByDateRange(int teamId, java.util.Date startDate, java.util.Date endDate) {
 		Map<String, Object> params = new HashMap<>();
 		params.put("teamId", teamId);
 		params.put("startDate", startDate);
 		params.put("endDate", endDate);
-		List<Task> tasks = dao.listByDateRange(params);
+		List<TaskCard> tasks = dao.listByDateRange(params);
 		populateRelations(tasks);
 		return tasks;
 	}
 
 	// 날짜 변경 (타임라인용)
 	public int updateDates(Task task) {
-		int result = dao.updateDates(task);
-		if (result == 1) {
-			Task updated = dao.content(task.getTaskId());
-			if (updated != null) {
-				SynodosColumn column = columnDao.content(updated.getColumnId());
-				if (column != null) {
-					notificationService.notifyTaskDatesChanged(updated, column.getTeamId());
-				}
-			}
-			// GitHub 자동 동기화
-			syncToGitHubIfLinked(task.getTaskId());
+		Task updated = dao.updateDatesReturning(task);
+		if (updated == null) {
+			return 0;
 		}
-		return result;
+		notificationService.notifyTaskDatesChanged(updated, updated.getTeamId());
+		// GitHub 자동 동기화
+		syncToGitHubIfLinked(task.getTaskId());
+		return 1;
 	}
 }
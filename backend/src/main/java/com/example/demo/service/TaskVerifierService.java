@@ -1,15 +1,16 @@
 package com.example.demo.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.demo.dao.TaskVerifierDao;
 import com.example.demo.dao.TaskDao;
-import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.model.Task;
 import com.example.demo.model.TaskVerifier;
-import com.example.demo.model.SynodosColumn;
 
 @Service
 public class TaskVerifierService {
@@ -20,9 +21,6 @@ public class TaskVerifierService {
 	@Autowired
 	private TaskDao taskDao;
 
-	@Autowired
-	private SynodosColumnDao columnDao;
-
 	@Autowired
 	private BoardNotificationService notificationService;
 
@@ -48,14 +46,14 @@ public class TaskVerifierService {
 			if (verifier.getMemberNo() != senderNo) {
 				Task task = taskDao.content(verifier.getTaskId());
 				if (task != null) {
-					SynodosColumn column = columnDao.content(task.getColumnId());
-					if (column != null) {
+					Integer teamId = task.getTeamId();
+					if (teamId != null) {
 						persistentNotificationService.notifyTaskVerifier(
 							verifier.getMemberNo(),
 							senderNo,
 							task.getTaskId(),
 							task.getTitle(),
-							column.getTeamId()
+							teamId
 						);
 					}
 				}
@@ -114,7 +112,12 @@ public class TaskVerifierService {
 		int count = 0;
 		if (memberNos != null) {
 			Task task = taskDao.content(taskId);
-			SynodosColumn column = task != null ? columnDao.content(task.getColumnId()) : null;
+			Integer teamId = task != null ? task.getTeamId() : null;
+			Set<Integer> previousNos = new HashSet<>();
+			for (TaskVerifier existing : existingVerifiers) {
+				previousNos.add(existing.getMemberNo());
+			}
+			List<Integer> recipientNos = new ArrayList<>();
 
 			for (Integer memberNo : memberNos) {
 				TaskVerifier verifier = new TaskVerifier();
@@ -122,21 +125,22 @@ public class TaskVerifierService {
 				verifier.setMemberNo(memberNo);
 				count += dao.insert(verifier);
 
-				// 새로 추가된 검증자에게 알림 (본인 제외, 기존에 없던 검증자만)
-				if (memberNo != senderNo && task != null && column != null) {
-					boolean wasVerifier = existingVerifiers.stream()
-						.anyMatch(ev -> ev.getMemberNo() == memberNo);
-					if (!wasVerifier) {
-						persistentNotificationService.notifyTaskVerifier(
-							memberNo,
-							senderNo,
-							task.getTaskId(),
-							task.getTitle(),
-							column.getTeamId()
-						);
-					}
+				// 새로 추가된 검증자만 수신자로 모음 (본인 제외, 기존에 없던 검증자만)
+				if (memberNo != senderNo && !previousNos.contains(memberNo)) {
+					recipientNos.add(memberNo);
 				}
 			}
+
+			// 수신자 전체를 한 번의 fan-out 으로 발송
+			if (!recipientNos.isEmpty() && task != null && teamId != null) {
+				persistentNotificationService.notifyTaskVerifier(
+					recipientNos,
+					senderNo,
+					task.getTaskId(),
+					task.getTitle(),
+					teamId
+				);
+			}
 		}
 
 		notifyTaskUpdate(taskId);
@@ -167,9 +171,9 @@ public class TaskVerifierService {
 	private void notifyTaskUpdate(int taskId) {
 		Task task = taskDao.content(taskId);
 		if (task != null) {
-			SynodosColumn column = columnDao.content(task.getColumnId());
-			if (column != null) {
-				notificationService.notifyTaskUpdated(task, column.getTeamId());
+			Integer teamId = task.getTeamId();
+			if (teamId != null) {
+				notificationService.notifyTaskUpdated(task, teamId);
 			}
 		}
 	}
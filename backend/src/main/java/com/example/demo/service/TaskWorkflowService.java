@@ -1,15 +1,17 @@
 package com.example.demo.service;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.demo.dao.TaskDao;
 import com.example.demo.dao.TaskAssigneeDao;
 import com.example.demo.dao.TaskVerifierDao;
-import com.example.demo.dao.SynodosColumnDao;
 import com.example.demo.dao.TeamDao;
 import com.example.demo.model.Task;
-import com.example.demo.model.SynodosColumn;
 import com.example.demo.model.Team;
 
 @Service
@@ -32,9 +34,6 @@ public class TaskWorkflowService {
 	@Autowired
 	private TaskVerifierDao verifierDao;
 
-	@Autowired
-	private SynodosColumnDao columnDao;
-
 	@Autowired
 	private TeamDao teamDao;
 
@@ -257,12 +256,12 @@ public class TaskWorkflowService {
 		}
 
 		// 권한 확인: 팀 리더 또는 태스크 생성자만 강제 완료 가능
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column == null) {
-			throw new IllegalArgumentException("태스크의 컬럼을 찾을 수 없습니다.");
+		Integer teamId = task.getTeamId();
+		if (teamId == null) {
+			throw new IllegalArgumentException("태스크의 팀 정보를 찾을 수 없습니다.");
 		}
 
-		Team team = teamDao.findById(column.getTeamId());
+		Team team = teamDao.findById(teamId);
 		if (team == null) {
 			throw new IllegalArgumentException("팀을 찾을 수 없습니다.");
 		}
@@ -336,118 +335,107 @@ public class TaskWorkflowService {
 
 	// 알림 발송 헬퍼
 	private void notifyAndReturn(Task task) {
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column != null) {
-			notificationService.notifyTaskUpdated(task, column.getTeamId());
+		Integer teamId = task.getTeamId();
+		if (teamId != null) {
+			notificationService.notifyTaskUpdated(task, teamId);
 		}
 	}
 
 	// 검증자들에게 검토 요청 알림
 	private void notifyVerifiersForReview(Task task, int senderNo) {
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column != null) {
-			verifierDao.listByTask(task.getTaskId()).forEach(v -> {
-				if (v.getMemberNo() != senderNo) {
-					persistentNotificationService.notifyTaskReview(
-						v.getMemberNo(),
-						senderNo,
-						task.getTaskId(),
-						task.getTitle(),
-						column.getTeamId()
-					);
-				}
-			});
+		Integer teamId = task.getTeamId();
+		if (teamId != null) {
+			persistentNotificationService.notifyTaskReview(
+				recipientsExcept(verifierDao.listByTask(task.getTaskId()).stream().map(v -> v.getMemberNo()), senderNo),
+				senderNo,
+				task.getTaskId(),
+				task.getTitle(),
+				teamId
+			);
 		}
 	}
 
 	// 담당자들에게 완료 알림
 	private void notifyAssigneesForDone(Task task, int senderNo) {
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column != null) {
-			assigneeDao.listByTask(task.getTaskId()).forEach(a -> {
-				if (a.getMemberNo() != senderNo) {
-					persistentNotificationService.notifyTaskApproved(
-						a.getMemberNo(),
-						senderNo,
-						task.getTaskId(),
-						task.getTitle(),
-						column.getTeamId()
-					);
-				}
-			});
+		Integer teamId = task.getTeamId();
+		if (teamId != null) {
+			persistentNotificationService.notifyTaskApproved(
+				assigneesExcept(task, senderNo),
+				senderNo,
+				task.getTaskId(),
+				task.getTitle(),
+				teamId
+			);
 		}
 	}
 
 	// 담당자들에게 반려 알림
 	private void notifyAssigneesForRejection(Task task, int senderNo, String reason) {
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column != null) {
-			assigneeDao.listByTask(task.getTaskId()).forEach(a -> {
-				if (a.getMemberNo() != senderNo) {
-					persistentNotificationService.notifyTaskRejected(
-						a.getMemberNo(),
-						senderNo,
-						task.getTaskId(),
-						task.getTitle(),
-						reason,
-						column.getTeamId()
-					);
-				}
-			});
+		Integer teamId = task.getTeamId();
+		if (teamId != null) {
+			persistentNotificationService.notifyTaskRejected(
+				assigneesExcept(task, senderNo),
+				senderNo,
+				task.getTaskId(),
+				task.getTitle(),
+				reason,
+				teamId
+			);
 		}
 	}
 
 	// 담당자들에게 거부 알림
 	private void notifyAssigneesForDecline(Task task, int senderNo, String reason) {
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column != null) {
-			assigneeDao.listByTask(task.getTaskId()).forEach(a -> {
-				if (a.getMemberNo() != senderNo) {
-					persistentNotificationService.notifyTaskDeclined(
-						a.getMemberNo(),
-						senderNo,
-						task.getTaskId(),
-						task.getTitle(),
-						reason,
-						column.getTeamId()
-					);
-				}
-			});
+		Integer teamId = task.getTeamId();
+		if (teamId != null) {
+			persistentNotificationService.notifyTaskDeclined(
+				assigneesExcept(task, senderNo),
+				senderNo,
+				task.getTaskId(),
+				task.getTitle(),
+				reason,
+				teamId
+			);
 		}
 	}
 
 	// 태스크 생성자에게 수락 알림
 	private void notifyCreatorForAccept(Task task, int senderNo) {
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column != null && task.getCreatedBy() != null && task.getCreatedBy() != senderNo) {
+		Integer teamId = task.getTeamId();
+		if (teamId != null && task.getCreatedBy() != null && task.getCreatedBy() != senderNo) {
 			persistentNotificationService.notifyTaskAccepted(
 				task.getCreatedBy(),
 				senderNo,
 				task.getTaskId(),
 				task.getTitle(),
-				column.getTeamId()
+				teamId
 			);
 		}
 	}
 
 	// 담당자들에게 강제 완료 알림
 	private void notifyAssigneesForForceComplete(Task task, int senderNo) {
-		SynodosColumn column = columnDao.content(task.getColumnId());
-		if (column != null) {
-			assigneeDao.listByTask(task.getTaskId()).forEach(a -> {
-				if (a.getMemberNo() != senderNo) {
-					persistentNotificationService.sendNotification(
-						a.getMemberNo(),
-						senderNo,
-						"TASK_FORCE_COMPLETE",
-						"태스크 강제 완료",
-						task.getTitle() + " 태스크가 강제 완료 처리되었습니다.",
-						column.getTeamId(),
-						task.getTaskId(),
-						0
-					);
-				}
-			});
+		Integer teamId = task.getTeamId();
+		if (teamId != null) {
+			persistentNotificationService.sendNotification(
+				assigneesExcept(task, senderNo),
+				senderNo,
+				"TASK_FORCE_COMPLETE",
+				"태스크 강제 완료",
+				task.getTitle() + " 태스크가 강제 완료 처리되었습니다.",
+				teamId,
+				0,
+				task.getTaskId()
+			);
 		}
 	}
+
+	// 태스크 담당자 중 발신자를 뺀 수신자 목록
+	private Set<Integer> assigneesExcept(Task task, int senderNo) {
+		return recipientsExcept(assigneeDao.listByTask(task.getTaskId()).stream().map(a -> a.getMemberNo()), senderNo);
+	}
+
+	private Set<Integer> recipientsExcept(Stream<Integer> memberNos, int senderNo) {
+		return memberNos.filter(no -> no != senderNo).collect(Collectors.toCollection(LinkedHashSet::new));
+	}
 }
@@ -11,6 +11,9 @@
 --   1. CREATE TABLE 문에 컬럼 추가 (신규 설치용)
 --   2. DO $$ ... ALTER TABLE ... $$ 블록 추가 (기존 DB 업데이트용)
 --
+-- Spring 초기화(spring.sql.init)는 ;로 문장을 나누고 $$를 모르므로
+-- 새로 추가하는 DO 블록/함수 본문은 $$ 대신 작은따옴표로 감쌉니다 (본문 안의 '는 '').
+--
 -- 참고: database/postgresql_schema.sql은 참조/백업용입니다.
 -- =============================================
 
@@ -247,6 +250,7 @@ UPDATE columns SET github_prefix = '[' || title || ']' WHERE github_prefix IS NU
 CREATE TABLE IF NOT EXISTS task (
     task_id INTEGER PRIMARY KEY,
     column_id INTEGER NOT NULL REFERENCES columns(column_id) ON DELETE CASCADE,
+    team_id INTEGER NOT NULL REFERENCES team(team_id) ON DELETE CASCADE,
     title VARCHAR(200) NOT NULL,
     description TEXT,
     position INTEGER DEFAULT 0,
@@ -273,12 +277,38 @@ BEGIN
     END IF;
 END $$;
 
+-- 기존 테이블에 team_id 컬럼 추가 (컬럼 조인 없이 팀 단위 조회/이벤트 발송)
+ALTER TABLE task ADD COLUMN IF NOT EXISTS team_id INTEGER REFERENCES team(team_id) ON DELETE CASCADE;
+
+-- team_id 채우기 (컬럼의 팀 기준)
+UPDATE task t SET team_id = c.team_id
+FROM columns c
+WHERE t.column_id = c.column_id AND (t.team_id IS NULL OR t.team_id <> c.team_id);
+
+-- team_id는 항상 컬럼의 팀에서 파생 (team_id 없이 넣는 경로/샘플 데이터/컬럼 이동 모두)
+CREATE OR REPLACE FUNCTION task_team_id_sync() RETURNS trigger AS '
+BEGIN
+    NEW.team_id := (SELECT c.team_id FROM columns c WHERE c.column_id = NEW.column_id);
+    RETURN NEW;
+END
+' LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_task_team_id ON task;
+CREATE TRIGGER trg_task_team_id BEFORE INSERT OR UPDATE OF column_id ON task
+    FOR EACH ROW EXECUTE FUNCTION task_team_id_sync();
+
+ALTER TABLE task ALTER COLUMN team_id SET NOT NULL;
+
 CREATE INDEX IF NOT EXISTS idx_task_column ON task(column_id);
+CREATE INDEX IF NOT EXISTS idx_task_team ON task(team_id);
 CREATE INDEX IF NOT EXISTS idx_task_position ON task(column_id, position);
 CREATE INDEX IF NOT EXISTS idx_task_assignee ON task(assignee_no);
 CREATE INDEX IF NOT EXISTS idx_task_workflow_status ON task(workflow_status);
 CREATE INDEX IF NOT EXISTS idx_task_priority ON task(priority);
 CREATE INDEX IF NOT EXISTS idx_task_due_date ON task(due_date);
+-- 마감일 알림 스캔용 (마감일이 있는 미완료 태스크만)
+CREATE INDEX IF NOT EXISTS idx_task_due_open ON task(due_date)
+    WHERE due_date IS NOT NULL AND workflow_status NOT IN ('DONE', 'DECLINED');
 CREATE INDEX IF NOT EXISTS idx_task_start_date ON task(start_date);
 
 -- priority 컬럼의 기본값 제거 (기존 DB 마이그레이션)
@@ -315,7 +345,9 @@ CREATE TABLE IF NOT EXISTS chat_message (
     sent_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
-CREATE INDEX IF NOT EXISTS idx_chat_team ON chat_message(team_id);
+-- 팀별 최신순/이전 메시지 키셋 조회용 (team_id 단독 인덱스는 이 인덱스로 대체)
+CREATE INDEX IF NOT EXISTS idx_chat_team_message ON chat_message(team_id, message_id DESC);
+DROP INDEX IF EXISTS idx_chat_team;
 CREATE INDEX IF NOT EXISTS idx_chat_sent ON chat_message(sent_at DESC);
 
 
@@ -359,8 +391,20 @@ CREATE INDEX IF NOT EXISTS idx_task_archive_archived ON task_archive(archived_at
 -- ========================================
 CREATE SEQUENCE IF NOT EXISTS notification_seq START WITH 1 INCREMENT BY 1;
 
+-- 기존 단일 테이블이면 이름을 바꿔 두고 아래에서 월 파티션 테이블로 옮김 (한 번만)
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class WHERE relname = ''notification'' AND relkind = ''r'') THEN
+        ALTER TABLE notification RENAME TO notification_legacy;
+        ALTER INDEX IF EXISTS notification_pkey RENAME TO notification_legacy_pkey;
+    END IF;
+END
+';
+
+-- created_at 월 단위 범위 파티션 (오래된 달은 NotificationPartitionService가 파티션째 삭제)
+-- 파티션 키가 PK에 포함되어야 하므로 PK는 (notification_id, created_at)
 CREATE TABLE IF NOT EXISTS notification (
-    notification_id INTEGER PRIMARY KEY,
+    notification_id INTEGER NOT NULL,
     recipient_no INTEGER NOT NULL REFERENCES member(no) ON DELETE CASCADE,
     sender_no INTEGER REFERENCES member(no) ON DELETE SET NULL,
     notification_type VARCHAR(50) NOT NULL,
@@ -370,13 +414,159 @@ CREATE TABLE IF NOT EXISTS notification (
     column_id INTEGER REFERENCES columns(column_id) ON DELETE CASCADE,
     task_id INTEGER REFERENCES task(task_id) ON DELETE CASCADE,
     is_read BOOLEAN DEFAULT FALSE,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    aggregate_count INTEGER NOT NULL DEFAULT 1,
+    PRIMARY KEY (notification_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 같은 (수신자, 태스크, 타입) 알림을 한 행으로 합친 횟수 (created_at은 마지막으로 합쳐진 시각)
+ALTER TABLE notification ADD COLUMN IF NOT EXISTS aggregate_count INTEGER NOT NULL DEFAULT 1;
+
+-- m이 속한 달의 파티션(notification_pYYYYMM)을 만들고 이름 반환 (NotificationPartitionService도 사용)
+-- 기본 파티션에 이미 그 달의 행이 있으면 그대로는 만들 수 없으므로 기본 파티션을 떼어 내고
+-- 월 파티션을 만든 뒤 행을 옮기고 다시 붙임 (파티션에 직접 쓰므로 notification_unread 트리거는 타지 않고 개수도 그대로)
+CREATE OR REPLACE FUNCTION notification_month_partition(m DATE) RETURNS TEXT AS '
+DECLARE
+    month_start DATE := date_trunc(''month'', m)::date;
+    month_end DATE := (date_trunc(''month'', m) + INTERVAL ''1 month'')::date;
+    part TEXT := ''notification_p'' || to_char(m, ''YYYYMM'');
+BEGIN
+    IF to_regclass(part) IS NOT NULL THEN
+        RETURN part;
+    END IF;
+    IF to_regclass(''notification_default'') IS NOT NULL
+       AND EXISTS (SELECT 1 FROM notification_default
+                   WHERE created_at >= month_start AND created_at < month_end) THEN
+        ALTER TABLE notification DETACH PARTITION notification_default;
+        EXECUTE format(''CREATE TABLE %I PARTITION OF notification FOR VALUES FROM (%L) TO (%L)'',
+                       part, month_start, month_end);
+        EXECUTE format(''INSERT INTO %I (notification_id, recipient_no, sender_no, notification_type, title, message,
+                                        team_id, column_id, task_id, is_read, created_at, aggregate_count)
+                        SELECT notification_id, recipient_no, sender_no, notification_type, title, message,
+                               team_id, column_id, task_id, is_read, created_at, aggregate_count
+                        FROM notification_default WHERE created_at >= %L AND created_at < %L'',
+                       part, month_start, month_end);
+        DELETE FROM notification_default WHERE created_at >= month_start AND created_at < month_end;
+        ALTER TABLE notification ATTACH PARTITION notification_default DEFAULT;
+    ELSE
+        EXECUTE format(''CREATE TABLE IF NOT EXISTS %I PARTITION OF notification FOR VALUES FROM (%L) TO (%L)'',
+                       part, month_start, month_end);
+    END IF;
+    RETURN part;
+END
+' LANGUAGE plpgsql;
+
+-- 지난달 ~ 2개월 뒤 파티션을 기본 파티션보다 먼저 만들어 둠 (이후 달은 NotificationPartitionService가 미리 생성)
+-- 달마다 따로 처리해 한 달이 실패해도 나머지는 생성
+DO '
+DECLARE
+    m DATE;
+BEGIN
+    FOR m IN
+        SELECT generate_series(date_trunc(''month'', CURRENT_DATE) - INTERVAL ''1 month'',
+                               date_trunc(''month'', CURRENT_DATE) + INTERVAL ''2 months'', INTERVAL ''1 month'')::date
+    LOOP
+        BEGIN
+            PERFORM notification_month_partition(m);
+        EXCEPTION WHEN OTHERS THEN
+            RAISE WARNING ''notification partition for % not created: %'', m, SQLERRM;
+        END;
+    END LOOP;
+END
+';
+
+-- 월 파티션이 아직 없는 시각의 행을 받는 기본 파티션 (평소에는 비어 있음)
+CREATE TABLE IF NOT EXISTS notification_default PARTITION OF notification DEFAULT;
+
+-- 이전 테이블 데이터를 월 파티션으로 복사 후 삭제
+DO '
+DECLARE
+    m DATE;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class WHERE relname = ''notification_legacy'' AND relkind = ''r'') THEN
+        FOR m IN
+            SELECT generate_series(date_trunc(''month'', COALESCE(MIN(created_at), CURRENT_TIMESTAMP)),
+                                   date_trunc(''month'', CURRENT_TIMESTAMP), INTERVAL ''1 month'')::date
+            FROM notification_legacy
+        LOOP
+            PERFORM notification_month_partition(m);
+        END LOOP;
+        INSERT INTO notification (notification_id, recipient_no, sender_no, notification_type, title, message,
+                                  team_id, column_id, task_id, is_read, created_at)
+        SELECT notification_id, recipient_no, sender_no, notification_type, title, message,
+               team_id, column_id, task_id, is_read, COALESCE(created_at, CURRENT_TIMESTAMP)
+        FROM notification_legacy;
+        DROP TABLE notification_legacy;
+    END IF;
+END
+';
+
+-- 수신자별 최신순 키셋 (created_at DESC, notification_id DESC) - 파티션마다 만들어지고 Merge Append로 합쳐짐
+CREATE INDEX IF NOT EXISTS idx_notification_recipient_created
+    ON notification(recipient_no, created_at DESC, notification_id DESC);
+-- 읽지 않은 알림 목록
+CREATE INDEX IF NOT EXISTS idx_notification_recipient_unread
+    ON notification(recipient_no, created_at DESC) WHERE is_read = false;
+-- 태스크별 최근 알림 중복 확인 (마감일 알림)
+CREATE INDEX IF NOT EXISTS idx_notification_task_type
+    ON notification(task_id, notification_type, created_at);
+
+-- 수신자별 읽지 않은 알림 수 (notification 트리거가 유지 - 폴링 시 COUNT 대신 PK 조회)
+CREATE TABLE IF NOT EXISTS notification_unread (
+    recipient_no INTEGER PRIMARY KEY REFERENCES member(no) ON DELETE CASCADE,
+    unread_count INTEGER NOT NULL DEFAULT 0
 );
 
-CREATE INDEX IF NOT EXISTS idx_notification_recipient ON notification(recipient_no);
-CREATE INDEX IF NOT EXISTS idx_notification_type ON notification(notification_type);
-CREATE INDEX IF NOT EXISTS idx_notification_read ON notification(is_read);
-CREATE INDEX IF NOT EXISTS idx_notification_created ON notification(created_at DESC);
+-- 행이 없는 수신자만 기존 알림으로 채움 (트리거가 있으면 읽지 않은 알림이 있는 수신자는 이미 행이 있으므로 매 시작 시 실행해도 안전)
+INSERT INTO notification_unread (recipient_no, unread_count)
+SELECT recipient_no, COUNT(*) FROM notification WHERE is_read IS NOT TRUE GROUP BY recipient_no
+ON CONFLICT (recipient_no) DO NOTHING;
+
+-- 문장 단위 트리거: 여러 행 INSERT/읽음 처리/삭제(태스크·팀 삭제로 인한 CASCADE 포함)를 수신자별 증감 한 번으로 반영
+CREATE OR REPLACE FUNCTION notification_unread_sync() RETURNS trigger AS '
+BEGIN
+    IF TG_OP = ''INSERT'' THEN
+        INSERT INTO notification_unread (recipient_no, unread_count)
+        SELECT recipient_no, COUNT(*) FROM new_rows WHERE is_read IS NOT TRUE GROUP BY recipient_no
+        ON CONFLICT (recipient_no) DO UPDATE
+            SET unread_count = notification_unread.unread_count + EXCLUDED.unread_count;
+    ELSIF TG_OP = ''UPDATE'' THEN
+        UPDATE notification_unread u
+        SET unread_count = GREATEST(u.unread_count + d.delta, 0)
+        FROM (
+            SELECT recipient_no, SUM(delta) AS delta FROM (
+                SELECT recipient_no, CASE WHEN is_read IS NOT TRUE THEN 1 ELSE 0 END AS delta FROM new_rows
+                UNION ALL
+                SELECT recipient_no, CASE WHEN is_read IS NOT TRUE THEN -1 ELSE 0 END FROM old_rows
+            ) c GROUP BY recipient_no HAVING SUM(delta) <> 0
+        ) d
+        WHERE u.recipient_no = d.recipient_no;
+    ELSE
+        UPDATE notification_unread u
+        SET unread_count = GREATEST(u.unread_count - d.cnt, 0)
+        FROM (
+            SELECT recipient_no, COUNT(*) AS cnt FROM old_rows WHERE is_read IS NOT TRUE GROUP BY recipient_no
+        ) d
+        WHERE u.recipient_no = d.recipient_no;
+    END IF;
+    RETURN NULL;
+END
+' LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_notification_unread_insert ON notification;
+CREATE TRIGGER trg_notification_unread_insert AFTER INSERT ON notification
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notification_unread_sync();
+
+DROP TRIGGER IF EXISTS trg_notification_unread_update ON notification;
+CREATE TRIGGER trg_notification_unread_update AFTER UPDATE ON notification
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notification_unread_sync();
+
+DROP TRIGGER IF EXISTS trg_notification_unread_delete ON notification;
+CREATE TRIGGER trg_notification_unread_delete AFTER DELETE ON notification
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notification_unread_sync();
 
 -- ========================================
 -- 태스크 담당자 테이블 (복수 담당자 지원)
@@ -433,6 +623,8 @@ CREATE INDEX IF NOT EXISTS idx_file_team ON file(team_id);
 CREATE INDEX IF NOT EXISTS idx_file_task ON file(task_id);
 CREATE INDEX IF NOT EXISTS idx_file_uploader ON file(uploader_no);
 CREATE INDEX IF NOT EXISTS idx_file_uploaded ON file(uploaded_at DESC);
+-- 팀별 키셋 페이지 (file_id DESC)
+CREATE INDEX IF NOT EXISTS idx_file_team_id ON file(team_id, file_id DESC);
 
 -- ========================================
 -- 이메일 인증 테이블
@@ -567,3 +759,61 @@ CREATE INDEX IF NOT EXISTS idx_task_github_pr_team ON task_github_pr(team_id);
 CREATE INDEX IF NOT EXISTS idx_task_github_pr_number ON task_github_pr(team_id, pr_number);
 CREATE INDEX IF NOT EXISTS idx_task_github_pr_state ON task_github_pr(pr_state);
 CREATE INDEX IF NOT EXISTS idx_task_github_pr_head ON task_github_pr(team_id, head_branch);
+
+-- ========================================
+-- 보드 리비전 / 변경 로그 (delta sync)
+-- ========================================
+CREATE TABLE IF NOT EXISTS board_revision (
+    team_id INTEGER PRIMARY KEY REFERENCES team(team_id) ON DELETE CASCADE,
+    revision BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS board_change (
+    team_id INTEGER NOT NULL REFERENCES team(team_id) ON DELETE CASCADE,
+    revision BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id INTEGER NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (team_id, revision)
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_change_changed ON board_change(changed_at);
+
+-- ========================================
+-- GitHub 동기화 Outbox (Synodos -> GitHub 비동기 전송)
+-- ========================================
+CREATE SEQUENCE IF NOT EXISTS github_sync_outbox_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS github_sync_outbox (
+    id INTEGER PRIMARY KEY DEFAULT nextval('github_sync_outbox_seq'),
+    task_id INTEGER NOT NULL REFERENCES task(task_id) ON DELETE CASCADE,
+    op_type VARCHAR(20) NOT NULL,                 -- ISSUE_CREATE, TASK_UPDATE, COMMENT_CREATE
+    comment_id INTEGER,
+    member_no INTEGER REFERENCES member(no) ON DELETE SET NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, PROCESSING, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 태스크당 대기 중인 TASK_UPDATE는 하나만 (변경이 여러 번 있어도 PATCH 1회로 합침)
+CREATE UNIQUE INDEX IF NOT EXISTS idx_github_sync_outbox_pending_task
+    ON github_sync_outbox(task_id) WHERE op_type = 'TASK_UPDATE' AND status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_github_sync_outbox_status ON github_sync_outbox(status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_github_sync_outbox_task ON github_sync_outbox(task_id, id);
+
+-- ========================================
+-- 클러스터 이벤트 버스 (LISTEN/NOTIFY 페이로드 한도 초과분 보관)
+-- ========================================
+CREATE SEQUENCE IF NOT EXISTS cluster_event_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS cluster_event (
+    id BIGINT PRIMARY KEY DEFAULT nextval('cluster_event_seq'),
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_cluster_event_created ON cluster_event(created_at);
@@ -0,0 +1,133 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * schema.sql / sample-data.sql 을 application.properties 와 같은 설정(spring.sql.init, continue-on-error)으로
+ * 두 번 실행해 Spring 의 ';' 분리기로도 함수·트리거·파티션이 모두 설치되는지 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaInitializationTest {
+
+	@Container
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	static JdbcTemplate jdbc;
+
+	@BeforeAll
+	static void initSchema() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+		DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+		settings.setSchemaLocations(List.of("classpath:schema.sql"));
+		settings.setDataLocations(List.of("classpath:sample-data.sql"));
+		settings.setContinueOnError(true);
+		settings.setEncoding(StandardCharsets.UTF_8);
+		settings.setMode(DatabaseInitializationMode.ALWAYS);
+
+		// 재시작 시나리오: 이미 초기화된 DB 에 다시 실행해도 깨지지 않아야 함
+		new DataSourceScriptDatabaseInitializer(dataSource, settings).initializeDatabase();
+		new DataSourceScriptDatabaseInitializer(dataSource, settings).initializeDatabase();
+
+		jdbc = new JdbcTemplate(dataSource);
+	}
+
+	@Test
+	void unreadCounterTableAndTriggersAreInstalled() {
+		Integer table = jdbc.queryForObject(
+				"SELECT COUNT(*) FROM pg_class WHERE relname = 'notification_unread'", Integer.class);
+		assertEquals(1, table);
+
+		List<String> triggers = jdbc.queryForList(
+				"SELECT DISTINCT trigger_name FROM information_schema.triggers"
+						+ " WHERE event_object_table = 'notification' ORDER BY trigger_name",
+				String.class);
+		assertEquals(List.of("trg_notification_unread_delete", "trg_notification_unread_insert",
+				"trg_notification_unread_update"), triggers);
+	}
+
+	@Test
+	void unreadCountsMatchNotifications() {
+		Integer mismatches = jdbc.queryForObject(
+				"SELECT COUNT(*) FROM ("
+						+ " SELECT recipient_no, COUNT(*) AS cnt FROM notification WHERE is_read IS NOT TRUE GROUP BY recipient_no"
+						+ ") n FULL JOIN notification_unread u ON u.recipient_no = n.recipient_no"
+						+ " WHERE COALESCE(n.cnt, 0) <> COALESCE(u.unread_count, 0)",
+				Integer.class);
+		assertEquals(0, mismatches);
+	}
+
+	@Test
+	void notificationIsPartitionedByMonth() {
+		String relkind = jdbc.queryForObject(
+				"SELECT relkind::text FROM pg_class WHERE relname = 'notification'", String.class);
+		assertEquals("p", relkind);
+
+		Integer aggregateCount = jdbc.queryForObject(
+				"SELECT COUNT(*) FROM information_schema.columns"
+						+ " WHERE table_name = 'notification' AND column_name = 'aggregate_count'",
+				Integer.class);
+		assertEquals(1, aggregateCount);
+
+		Integer currentMonth = jdbc.queryForObject(
+				"SELECT COUNT(*) FROM pg_class WHERE relname = 'notification_p' || to_char(CURRENT_DATE, 'YYYYMM')",
+				Integer.class);
+		assertEquals(1, currentMonth);
+
+		// 샘플 알림은 모두 월 파티션으로 들어가야 함
+		Integer notifications = jdbc.queryForObject("SELECT COUNT(*) FROM notification", Integer.class);
+		Integer inDefault = jdbc.queryForObject("SELECT COUNT(*) FROM notification_default", Integer.class);
+		assertTrue(notifications > 0);
+		assertEquals(0, inDefault);
+	}
+
+	@Test
+	void monthPartitionMovesRowsOutOfDefault() {
+		jdbc.update("INSERT INTO notification (notification_id, recipient_no, notification_type, title, is_read, created_at)"
+				+ " SELECT nextval('notification_seq'), MIN(no), 'TEST', 'far future', false, TIMESTAMP '2099-05-10 00:00:00'"
+				+ " FROM member");
+		Integer unreadBefore = jdbc.queryForObject("SELECT SUM(unread_count)::int FROM notification_unread", Integer.class);
+
+		String partition = jdbc.queryForObject("SELECT notification_month_partition(DATE '2099-05-01')", String.class);
+		assertEquals("notification_p209905", partition);
+
+		Integer moved = jdbc.queryForObject("SELECT COUNT(*) FROM notification_p209905", Integer.class);
+		Integer inDefault = jdbc.queryForObject(
+				"SELECT COUNT(*) FROM notification_default WHERE created_at >= DATE '2099-05-01'", Integer.class);
+		Integer unreadAfter = jdbc.queryForObject("SELECT SUM(unread_count)::int FROM notification_unread", Integer.class);
+		String defaultAttached = jdbc.queryForObject(
+				"SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_class c WHERE c.relname = 'notification_default'",
+				String.class);
+		assertEquals(1, moved);
+		assertEquals(0, inDefault);
+		assertEquals(unreadBefore, unreadAfter);
+		assertEquals("DEFAULT", defaultAttached);
+
+		jdbc.execute("DELETE FROM notification WHERE notification_type = 'TEST'");
+		jdbc.execute("DROP TABLE notification_p209905");
+	}
+
+	@Test
+	void sampleTasksHaveTeamId() {
+		Integer tasks = jdbc.queryForObject("SELECT COUNT(*) FROM task", Integer.class);
+		Integer withoutTeam = jdbc.queryForObject("SELECT COUNT(*) FROM task WHERE team_id IS NULL", Integer.class);
+		assertTrue(tasks > 0);
+		assertEquals(0, withoutTeam);
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.dto.BoardEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 보드 이벤트 합치기/발송 순서 - 같은 엔티티의 연속 변경은 하나로, 합쳐진 이벤트는 버퍼 맨 뒤로
+ */
+class BoardEventDispatcherTest {
+
+	private static final int TEAM_ID = 7;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final List<Object> sent = new ArrayList<>();
+
+	private BoardEventDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		ClusterEventBus clusterEventBus = new ClusterEventBus() {
+			@Override
+			public void broadcast(String destination, Object payload) {
+				sent.add(payload);
+			}
+		};
+		dispatcher = new BoardEventDispatcher();
+		ReflectionTestUtils.setField(dispatcher, "clusterEventBus", clusterEventBus);
+		// 창이 끝나기 전에 max-batch-size로만 발송되도록 예약 발송은 멀리 둠
+		ReflectionTestUtils.setField(dispatcher, "taskScheduler",
+				new ConcurrentTaskScheduler(Executors.newSingleThreadScheduledExecutor()));
+		ReflectionTestUtils.setField(dispatcher, "objectMapper", objectMapper);
+		ReflectionTestUtils.setField(dispatcher, "batchWindowMs", 60_000L);
+		ReflectionTestUtils.setField(dispatcher, "maxBatchSize", 3);
+	}
+
+	@Test
+	void updateAfterCreateStaysCreateWithLatestPayload() {
+		BoardEvent created = event("TASK_CREATED", task(1, "draft", 1024), false);
+		BoardEvent updated = event("TASK_UPDATED", task(1, "final", 1024), false);
+
+		BoardEvent merged = dispatcher.merge(created, updated);
+
+		assertEquals("TASK_CREATED", merged.getEventType());
+		assertSame(updated.getPayload(), merged.getPayload());
+	}
+
+	@Test
+	void diffIsOverlaidOnPreviousPayload() {
+		BoardEvent updated = event("TASK_UPDATED", task(1, "title", 1024), false);
+		Map<String, Object> moved = new LinkedHashMap<>();
+		moved.put("position", 1536);
+		BoardEvent diff = event("TASK_UPDATED", moved, true);
+
+		BoardEvent merged = dispatcher.merge(updated, diff);
+
+		JsonNode payload = objectMapper.valueToTree(merged.getPayload());
+		assertEquals("title", payload.path("title").asText());
+		assertEquals(1536, payload.path("position").asInt());
+		assertFalse(merged.isDiff());
+	}
+
+	@Test
+	void deleteReplacesEarlierChanges() {
+		BoardEvent created = event("TASK_CREATED", task(1, "draft", 1024), false);
+		BoardEvent deleted = event("TASK_DELETED", Map.of("taskId", 1), false);
+
+		assertSame(deleted, dispatcher.merge(created, deleted));
+	}
+
+	@Test
+	void coalescedEventMovesToEndOfBatch() {
+		dispatcher.dispatch(event("TASK_UPDATED", task(1, "a", 1024), false), 1);
+		dispatcher.dispatch(event("TASK_UPDATED", task(2, "b", 2048), false), 2);
+		dispatcher.dispatch(event("TASK_UPDATED", task(1, "a2", 1024), false), 1);
+		assertTrue(sent.isEmpty());
+
+		// 세 번째 엔티티로 max-batch-size에 닿아 바로 발송
+		dispatcher.dispatch(event("TASK_UPDATED", task(3, "c", 3072), false), 3);
+
+		assertEquals(1, sent.size());
+		BoardEvent frame = (BoardEvent) sent.get(0);
+		assertEquals(BoardEventDispatcher.EVENT_BATCH, frame.getEventType());
+		List<String> titles = new ArrayList<>();
+		for (Object item : (List<?>) frame.getPayload()) {
+			titles.add(objectMapper.valueToTree(((BoardEvent) item).getPayload()).path("title").asText());
+		}
+		assertEquals(List.of("b", "a2", "c"), titles);
+		assertEquals(0, dispatcher.getStats().get("pendingTeams"));
+	}
+
+	private static BoardEvent event(String eventType, Object payload, boolean diff) {
+		return new BoardEvent(eventType, "task", payload, TEAM_ID, System.currentTimeMillis(), 1, diff);
+	}
+
+	private static Map<String, Object> task(int taskId, String title, int position) {
+		Map<String, Object> task = new LinkedHashMap<>();
+		task.put("taskId", taskId);
+		task.put("title", title);
+		task.put("position", position);
+		return task;
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.demo.dto.BoardEvent;
+
+/**
+ * 재연결 재전송 구간 판정 - floor 아래 since는 스냅샷(null), 그 위는 빠짐없이 리비전 순
+ */
+class BoardEventReplayBufferTest {
+
+	private static final int TEAM_ID = 3;
+
+	private BoardEventReplayBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		buffer = new BoardEventReplayBuffer();
+		ReflectionTestUtils.setField(buffer, "replaySize", 4);
+		ReflectionTestUtils.setField(buffer, "maxTeams", 10);
+	}
+
+	@Test
+	void sinceBelowFloorRequiresSnapshot() {
+		// 리비전 10 직후부터 기록 - floor 10, 그 이전 변경은 버퍼에 없음
+		appendRange(11, 12);
+
+		assertNull(buffer.since(TEAM_ID, 9, 12));
+		assertEquals(List.of(11L, 12L), revisions(buffer.since(TEAM_ID, 10, 12)));
+	}
+
+	@Test
+	void evictionRaisesFloor() {
+		// replay-size 4 - 1~6 중 3~6만 남고 floor는 2
+		appendRange(1, 6);
+
+		assertNull(buffer.since(TEAM_ID, 1, 6));
+		assertEquals(List.of(3L, 4L, 5L, 6L), revisions(buffer.since(TEAM_ID, 2, 6)));
+		assertEquals(List.of(6L), revisions(buffer.since(TEAM_ID, 5, 6)));
+	}
+
+	@Test
+	void upToDateClientGetsNothing() {
+		appendRange(1, 2);
+
+		assertTrue(buffer.since(TEAM_ID, 2, 2).isEmpty());
+		assertTrue(buffer.since(TEAM_ID + 1, 0, 0).isEmpty());
+	}
+
+	@Test
+	void unknownOrResetTeamRequiresSnapshot() {
+		assertNull(buffer.since(TEAM_ID, 0, 5));
+
+		appendRange(1, 3);
+		buffer.reset(TEAM_ID);
+
+		assertNull(buffer.since(TEAM_ID, 2, 3));
+	}
+
+	private void appendRange(long from, long to) {
+		for (long revision = from; revision <= to; revision++) {
+			buffer.append(new BoardEvent("TASK_UPDATED", "task", null, TEAM_ID, 0, revision, false), revision - 1);
+		}
+	}
+
+	private static List<Long> revisions(List<BoardEvent> events) {
+		List<Long> revisions = new ArrayList<>();
+		for (BoardEvent event : events) {
+			revisions.add(event.getRevision());
+		}
+		return revisions;
+	}
+}
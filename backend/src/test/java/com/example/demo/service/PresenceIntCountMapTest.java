@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * PresenceService.IntCountMap (열린 주소 int -> 카운트) - 삭제 시 뒤쪽 엔트리 당기기가 탐사 체인을 끊지 않는지
+ */
+class PresenceIntCountMapTest {
+
+	@Test
+	void countReachingZeroRemovesKey() {
+		PresenceService.IntCountMap map = new PresenceService.IntCountMap();
+		assertEquals(1, map.add(5, 1));
+		assertEquals(2, map.add(5, 1));
+		assertEquals(1, map.add(5, -1));
+		assertEquals(0, map.add(5, -1));
+
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.get(5));
+		assertEquals(0, map.add(6, 0));
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	void removingAnyKeyKeepsTheOthersReachable() {
+		// 8칸 테이블에 키 3개면 충돌/순환 구간이 생김 - 모든 삭제 순서에서 남은 키가 보여야 함
+		for (int a = 1; a <= 24; a++) {
+			for (int b = a + 1; b <= 24; b++) {
+				for (int c = b + 1; c <= 24; c++) {
+					int[] keys = {a, b, c};
+					for (int removed : keys) {
+						PresenceService.IntCountMap map = new PresenceService.IntCountMap();
+						for (int key : keys) {
+							map.add(key, key);
+						}
+						map.remove(removed);
+						assertEquals(2, map.size());
+						for (int key : keys) {
+							assertEquals(key == removed ? 0 : key, map.get(key));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void matchesHashMapUnderRandomAddsAndRemoves() {
+		Random random = new Random(42);
+		PresenceService.IntCountMap map = new PresenceService.IntCountMap();
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int step = 0; step < 20_000; step++) {
+			// 좁은 키 범위로 충돌과 재삽입을 자주 만듦
+			int key = 1 + random.nextInt(48);
+			int op = random.nextInt(3);
+			if (op == 0) {
+				map.remove(key);
+				expected.remove(key);
+			} else {
+				int delta = op == 1 ? 1 : -1;
+				int value = expected.getOrDefault(key, 0) + delta;
+				if (value == 0) {
+					expected.remove(key);
+				} else {
+					expected.put(key, value);
+				}
+				assertEquals(value, map.add(key, delta));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		for (int key = 1; key <= 48; key++) {
+			assertEquals(expected.getOrDefault(key, 0), map.get(key));
+		}
+		int[] keys = map.keys();
+		Arrays.sort(keys);
+		assertArrayEquals(expected.keySet().stream().mapToInt(Integer::intValue).sorted().toArray(), keys);
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.get(keys.length > 0 ? keys[0] : 1));
+	}
+}
@@ -2,6 +2,16 @@ import axiosInstance from './axiosInstance';
 
 const API_PATH = '/api';
 
+// ========== Board API ==========
+
+// 팀 보드 스냅샷 (팀/멤버/컬럼/태스크 카드/즐겨찾기를 한 번에)
+export const getBoardSnapshot = async (teamId, memberNo) => {
+    const response = await axiosInstance.get(`${API_PATH}/board/${teamId}/snapshot`, {
+        params: memberNo ? { memberNo } : {}
+    });
+    return response.data;
+};
+
 // ========== Column API ==========
 
 // 컬럼 생성
@@ -96,6 +106,12 @@ export const taskposition = async (task) => {
     return response.data;
 };
 
+// 여러 태스크 순서 일괄 변경 (position = 컬럼 내 순서, 1부터)
+export const taskpositionBatch = async (tasks) => {
+    const response = await axiosInstance.put(`${API_PATH}/taskposition/batch`, tasks);
+    return response.data;
+};
+
 // ========== Issue Tracker API ==========
 
 // 담당자별 태스크 목록 (내 이슈)
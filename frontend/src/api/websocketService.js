@@ -21,6 +21,11 @@ class WebSocketService {
             reconnectDelay: 5000,
             heartbeatIncoming: 4000,
             heartbeatOutgoing: 4000,
+            // CONNECT 때 한 번만 인증 (재연결마다 최신 토큰 사용)
+            beforeConnect: () => {
+                const token = localStorage.getItem('token');
+                this.client.connectHeaders = token ? { Authorization: `Bearer ${token}` } : {};
+            },
             onConnect: () => {
                 this.connected = true;
                 if (this.onConnectedCallback) {
@@ -75,7 +80,8 @@ class WebSocketService {
                 (message) => {
                     try {
                         const event = JSON.parse(message.body);
-                        onMessage(event);
+                        // 서버가 느린 연결로 보드 이벤트를 버렸으면 x-resync 헤더로 알려줌 (replay 필요)
+                        onMessage(event, message.headers['x-resync'] === 'true');
                     } catch (e) {
                         // Error handled silently
                     }
@@ -84,6 +90,32 @@ class WebSocketService {
         }
     }
 
+    // /app 구독 응답을 한 번만 받고 바로 해제
+    subscribeOnce(destination, onResponse, headers = {}) {
+        if (!this.client || !this.connected) return;
+        const subscription = this.client.subscribe(
+            destination,
+            (message) => {
+                try {
+                    subscription.unsubscribe();
+                } catch (e) {
+                    // Error handled silently
+                }
+                try {
+                    onResponse(JSON.parse(message.body));
+                } catch (e) {
+                    // Error handled silently
+                }
+            },
+            headers
+        );
+    }
+
+    // 재연결 후 놓친 보드 이벤트 요청 (since = 마지막으로 받은 리비전, 응답은 이 세션에만 한 번 옴)
+    requestBoardReplay(teamId, since, onReplay) {
+        this.subscribeOnce(`/app/board/${teamId}/replay`, onReplay, { since: String(since) });
+    }
+
     unsubscribeFromTeam(teamId) {
         const destination = `/topic/team/${teamId}`;
         if (this.subscriptions[destination]) {
@@ -96,9 +128,9 @@ class WebSocketService {
         }
     }
 
-    // 사용자 알림 구독
+    // 사용자 알림 구독 (서버가 CONNECT 인증 정보로 이 세션의 회원에게만 전달)
     subscribeToUserNotifications(memberNo, onNotification) {
-        const destination = `/topic/user/${memberNo}/notifications`;
+        const destination = '/user/queue/notifications';
 
         // 기존 구독 해제
         if (this.subscriptions[destination]) {
@@ -126,7 +158,7 @@ class WebSocketService {
     }
 
     unsubscribeFromUserNotifications(memberNo) {
-        const destination = `/topic/user/${memberNo}/notifications`;
+        const destination = '/user/queue/notifications';
         if (this.subscriptions[destination]) {
             try {
                 this.subscriptions[destination].unsubscribe();
@@ -145,6 +177,16 @@ class WebSocketService {
         return this.client;
     }
 
+    // 채팅 전송 (연결된 세션으로 보냄, 연결이 없으면 false -> 호출자가 HTTP로 전송)
+    sendChatMessage(teamId, content) {
+        if (!this.client || !this.connected) return false;
+        this.client.publish({
+            destination: `/app/chat/${teamId}/send`,
+            body: JSON.stringify({ content })
+        });
+        return true;
+    }
+
     // Presence methods for online status tracking
     joinTeamPresence(teamId, memberNo) {
         if (this.client && this.connected) {
@@ -155,6 +197,11 @@ class WebSocketService {
         }
     }
 
+    // 현재 접속자 전체 목록 (이후 변경은 팀 토픽의 PRESENCE_DELTA로 옴)
+    requestPresenceSnapshot(teamId, onSnapshot) {
+        this.subscribeOnce(`/app/presence/${teamId}`, onSnapshot);
+    }
+
     leaveTeamPresence(teamId) {
         if (this.client && this.connected) {
             this.client.publish({
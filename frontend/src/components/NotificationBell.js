@@ -20,12 +20,23 @@ function NotificationBell({ memberNo }) {
     const dropdownRef = useRef(null);
     const subscribedRef = useRef(false);
 
-    // 실시간 알림 수신 핸들러
+    // 실시간 알림 수신 핸들러 (새 알림 또는 읽지 않은 수 변경)
     const handleRealtimeNotification = useCallback((notification) => {
-        // 알림 목록 상단에 추가
-        setNotifications(prev => [notification, ...prev]);
-        // 읽지 않은 알림 수 증가
-        setUnreadCount(prev => prev + 1);
+        if (notification.eventType === 'UNREAD_COUNT') {
+            setUnreadCount(notification.unreadCount);
+            return;
+        }
+        // 알림 목록 상단에 추가 (기존 알림에 합쳐진 경우 같은 ID 항목을 교체)
+        setNotifications(prev => [
+            notification,
+            ...prev.filter(n => n.notificationId !== notification.notificationId)
+        ]);
+        // 서버 카운터 값이 있으면 그대로, 없으면 증가
+        if (typeof notification.unreadCount === 'number') {
+            setUnreadCount(notification.unreadCount);
+        } else {
+            setUnreadCount(prev => prev + 1);
+        }
     }, []);
 
     // WebSocket 구독 설정
@@ -311,7 +322,12 @@ function NotificationBell({ memberNo }) {
                                         {getNotificationIcon(notification.notificationType)}
                                     </span>
                                     <div className="notification-content">
-                                        <div className="notification-title">{notification.title}</div>
+                                        <div className="notification-title">
+                                            {notification.title}
+                                            {notification.aggregateCount > 1 && (
+                                                <span className="aggregate-count">{notification.aggregateCount}건</span>
+                                            )}
+                                        </div>
                                         <div className="notification-message">{notification.message}</div>
                                         <div className="notification-meta">
                                             {notification.senderName && (
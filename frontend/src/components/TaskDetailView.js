@@ -1,6 +1,6 @@
 import React, { useState, useEffect, useRef, useCallback } from 'react';
 import ReactDOM from 'react-dom';
-import { taskupdate, updateTaskAssignees, updateTaskVerifiers, archiveTask, unarchiveTask, toggleTaskFavorite, checkTaskFavorite, forceCompleteTask } from '../api/boardApi';
+import { taskcontent, taskupdate, updateTaskAssignees, updateTaskVerifiers, archiveTask, unarchiveTask, toggleTaskFavorite, checkTaskFavorite, forceCompleteTask } from '../api/boardApi';
 import { getTeamMembers, getTeam } from '../api/teamApi';
 import { uploadFile, getFilesByTask, deleteFile, formatFileSize, getFileIcon } from '../api/fileApi';
 import { createTaskBranch, createTaskPR, getTaskPRs, getBranches, getDefaultBranch, mergePR, getPRDetail, aiResolveConflictStepBased, generateFinalCode, applyConflictResolution } from '../api/githubApi';
@@ -119,9 +119,25 @@ function TaskDetailView({ task, teamId, onClose, onUpdate, loginMember, lastComm
                 setSelectedVerifiers(task.verifiers?.map(v => v.memberNo) || []);
                 prevTaskIdRef.current = task.taskId;
 
-                setTimeout(() => {
-                    initialLoadRef.current = false;
-                }, 100);
+                if (task.description === undefined) {
+                    // 목록/이벤트의 태스크 카드에는 설명이 없으므로 상세 조회 후 자동 저장 시작
+                    // (조회 실패 시 자동 저장을 켜지 않음 - 빈 설명으로 덮어쓰지 않도록)
+                    const loadingTaskId = task.taskId;
+                    taskcontent(loadingTaskId)
+                        .then(detail => {
+                            if (prevTaskIdRef.current === loadingTaskId) {
+                                setForm(prev => ({ ...prev, description: detail?.description || '' }));
+                                initialLoadRef.current = false;
+                            }
+                        })
+                        .catch(error => {
+                            console.error('태스크 상세 로드 실패:', error);
+                        });
+                } else {
+                    setTimeout(() => {
+                        initialLoadRef.current = false;
+                    }, 100);
+                }
             }
         }
     }, [task]);
@@ -1,7 +1,6 @@
 import React, { useState, useEffect, useCallback, useRef, useMemo } from 'react';
 import { useNavigate, useParams, useSearchParams } from 'react-router-dom';
-import { columnlistByTeam, tasklistByTeam } from '../api/boardApi';
-import { getTeam, getTeamMembers } from '../api/teamApi';
+import { getBoardSnapshot } from '../api/boardApi';
 import { getProfileImageUrl } from '../api/memberApi';
 import websocketService from '../api/websocketService';
 import Sidebar from '../components/Sidebar';
@@ -44,11 +43,13 @@ function TeamView() {
     const [columns, setColumns] = useState([]);
     const [tasks, setTasks] = useState([]);
     const [teamMembers, setTeamMembers] = useState([]);
+    const [favoriteTaskIds, setFavoriteTaskIds] = useState([]);
     const [loginMember, setLoginMember] = useState(null);
     const [loading, setLoading] = useState(true);
     const [sidebarOpen, setSidebarOpen] = useState(true);
     const [memberSidebarOpen, setMemberSidebarOpen] = useState(true);
     const [wsConnected, setWsConnected] = useState(false);
+    const [wsSession, setWsSession] = useState(0);  // 연결(재연결 포함) 횟수 - 바뀔 때마다 다시 구독
     const [onlineMembers, setOnlineMembers] = useState([]);
     const [filters, setFilters] = useState({
         searchQuery: '',
@@ -63,13 +64,16 @@ function TeamView() {
     // 자식 뷰 ref (스크롤용)
     const viewRef = useRef(null);
 
+    // 마지막으로 받은 보드 리비전 (재연결 시 놓친 이벤트 요청용)
+    const lastRevisionRef = useRef(0);
+
     // 검색어에 매칭되는 태스크 목록
     const searchMatches = useMemo(() => {
         if (!filters.searchQuery) return [];
         const query = filters.searchQuery.toLowerCase();
         return tasks.filter(task => {
             const matchTitle = task.title?.toLowerCase().includes(query);
-            const matchDesc = task.description?.toLowerCase().includes(query);
+            const matchDesc = task.descriptionExcerpt?.toLowerCase().includes(query);
             const matchAssignee = task.assignees?.some(a =>
                 a.memberName?.toLowerCase().includes(query)
             );
@@ -147,8 +151,8 @@ function TeamView() {
         navigate('/login');
     };
 
-    // WebSocket 이벤트 핸들러 (모든 뷰가 공유)
-    const handleBoardEvent = useCallback((event) => {
+    // WebSocket 보드 이벤트 하나를 상태에 반영 (모든 뷰가 공유)
+    const applyBoardEvent = useCallback((event) => {
         switch (event.eventType) {
             // Column 이벤트
             case 'COLUMN_CREATED':
@@ -187,8 +191,11 @@ function TeamView() {
 
             case 'TASK_UPDATED':
             case 'TASK_DATES_CHANGED':
+                // diff 이벤트는 바뀐 필드만 오므로 기존 카드에 병합
                 setTasks(prev => prev.map(task =>
-                    task.taskId === event.payload.taskId ? event.payload : task
+                    task.taskId === event.payload.taskId
+                        ? (event.diff ? { ...task, ...event.payload } : event.payload)
+                        : task
                 ));
                 break;
 
@@ -196,11 +203,17 @@ function TeamView() {
                 setTasks(prev => prev.filter(task => task.taskId !== event.payload));
                 break;
 
-            case 'TASK_MOVED':
-                setTasks(prev => prev.map(task =>
-                    task.taskId === event.payload.taskId ? event.payload : task
-                ));
+            case 'TASK_MOVED': {
+                // 일괄 이동/재배치 시 payload는 태스크 목록
+                // 이동 카드에는 담당자/검증자/댓글 수 등 조회 전용 필드가 없으므로 위치만 반영
+                const movedTasks = Array.isArray(event.payload) ? event.payload : [event.payload];
+                const movedById = new Map(movedTasks.map(t => [t.taskId, t]));
+                setTasks(prev => prev.map(task => {
+                    const moved = movedById.get(task.taskId);
+                    return moved ? { ...task, columnId: moved.columnId, position: moved.position } : task;
+                }));
                 break;
+            }
 
             // Team 이벤트
             case 'TEAM_UPDATED':
@@ -209,10 +222,18 @@ function TeamView() {
                 }
                 break;
 
-            // Presence 이벤트
-            case 'PRESENCE_UPDATE':
-                setOnlineMembers(Array.isArray(event.payload) ? event.payload : []);
+            // Presence 이벤트 (접속/종료된 멤버만 옴)
+            case 'PRESENCE_DELTA': {
+                const joined = event.payload?.joined || [];
+                const left = event.payload?.left || [];
+                setOnlineMembers(prev => {
+                    const next = new Set(prev);
+                    left.forEach(no => next.delete(no));
+                    joined.forEach(no => next.add(no));
+                    return [...next];
+                });
                 break;
+            }
 
             // Comment 이벤트 (GitHub → Synodos 동기화 등)
             case 'COMMENT_CREATED':
@@ -228,6 +249,44 @@ function TeamView() {
         }
     }, [teamId]);
 
+    // since 이후 놓친 이벤트만 받아서 반영 (버퍼로 메울 수 없으면 전체 다시 로드)
+    const replayBoard = useCallback((tid, since) => {
+        if (since <= 0) {
+            fetchData();
+            return;
+        }
+        websocketService.requestBoardReplay(tid, since, (replay) => {
+            if (replay.resetRequired) {
+                fetchData();
+                return;
+            }
+            (replay.events || []).forEach(applyBoardEvent);
+            if (replay.revision > lastRevisionRef.current) {
+                lastRevisionRef.current = replay.revision;
+            }
+        });
+    }, [applyBoardEvent]);
+
+    // WebSocket 이벤트 핸들러 - 서버가 짧은 시간 동안 모은 이벤트는 BATCH 프레임으로 옴 (한 번의 렌더링으로 반영)
+    // resync: 이 프레임 전에 서버가 이벤트를 버림 - 마지막으로 받은 리비전 이후를 다시 받음
+    const handleBoardEvent = useCallback((event, resync) => {
+        // 서버 노드 간 이벤트 전달이 실패해 이 노드가 변경을 놓침 - 스냅샷을 다시 받음
+        if (event.eventType === 'RESYNC') {
+            fetchData();
+            return;
+        }
+        if (resync) {
+            replayBoard(parseInt(teamId), lastRevisionRef.current);
+        }
+        if (event.revision > lastRevisionRef.current) {
+            lastRevisionRef.current = event.revision;
+        }
+        const events = event.eventType === 'BATCH' && Array.isArray(event.payload)
+            ? event.payload
+            : [event];
+        events.forEach(applyBoardEvent);
+    }, [teamId, applyBoardEvent, replayBoard]);
+
     // 로그인 확인
     useEffect(() => {
         const token = localStorage.getItem('token');
@@ -245,6 +304,7 @@ function TeamView() {
         websocketService.connect(
             () => {
                 setWsConnected(true);
+                setWsSession(prev => prev + 1);
             },
             () => {}
         );
@@ -259,8 +319,16 @@ function TeamView() {
         if (teamId && wsConnected && loginMember) {
             const tid = parseInt(teamId);
             websocketService.subscribeToTeam(tid, handleBoardEvent);
-            // 온라인 상태 알림
+            // 온라인 상태 알림 + 현재 접속자 목록
             websocketService.joinTeamPresence(tid, loginMember.no);
+            websocketService.requestPresenceSnapshot(tid, (snapshot) => {
+                setOnlineMembers(Array.isArray(snapshot.payload) ? snapshot.payload : []);
+            });
+
+            // 재연결이면 끊긴 동안 놓친 이벤트만 받아서 반영
+            if (wsSession > 1) {
+                replayBoard(tid, lastRevisionRef.current);
+            }
 
             return () => {
                 websocketService.leaveTeamPresence(tid);
@@ -268,11 +336,12 @@ function TeamView() {
                 setOnlineMembers([]);
             };
         }
-    }, [teamId, wsConnected, loginMember, handleBoardEvent]);
+    }, [teamId, wsConnected, wsSession, loginMember, handleBoardEvent, replayBoard]);
 
     // 데이터 로드
     useEffect(() => {
         if (teamId && loginMember) {
+            lastRevisionRef.current = 0;
             fetchData();
         }
     }, [teamId, loginMember]);
@@ -280,17 +349,17 @@ function TeamView() {
     const fetchData = async () => {
         try {
             setLoading(true);
-            const [teamData, columnsData, tasksData, membersData] = await Promise.all([
-                getTeam(teamId),
-                columnlistByTeam(teamId),
-                tasklistByTeam(teamId),
-                getTeamMembers(teamId)
-            ]);
+            // 팀/멤버/컬럼/태스크/즐겨찾기를 스냅샷 한 번으로
+            const snapshot = await getBoardSnapshot(teamId, loginMember?.no);
+            const teamData = snapshot.team;
 
             setTeam(teamData);
-            setColumns(Array.isArray(columnsData) ? columnsData : []);
-            setTasks(Array.isArray(tasksData) ? tasksData : []);
-            setTeamMembers(Array.isArray(membersData) ? membersData : []);
+            setColumns(Array.isArray(snapshot.columns) ? snapshot.columns : []);
+            setTasks(Array.isArray(snapshot.tasks) ? snapshot.tasks : []);
+            setTeamMembers(Array.isArray(snapshot.members) ? snapshot.members : []);
+            setFavoriteTaskIds(Array.isArray(snapshot.favoriteTaskIds) ? snapshot.favoriteTaskIds : []);
+            // 화면 상태가 스냅샷 시점으로 바뀌었으므로 재연결 시 이 리비전 이후만 요청
+            lastRevisionRef.current = snapshot.revision || 0;
 
             // localStorage에 현재 팀 저장
             if (teamData) {
@@ -328,6 +397,14 @@ function TeamView() {
         setTasks(prev => prev.filter(task => task.taskId !== taskId));
     }, []);
 
+    // 즐겨찾기 변경 헬퍼
+    const updateFavorite = useCallback((taskId, favorited) => {
+        setFavoriteTaskIds(prev => {
+            const rest = prev.filter(id => id !== taskId);
+            return favorited ? [...rest, taskId] : rest;
+        });
+    }, []);
+
     // Columns 업데이트 헬퍼
     const updateColumn = useCallback((updatedColumn) => {
         setColumns(prev => prev.map(col =>
@@ -364,6 +441,7 @@ function TeamView() {
         columns,
         tasks,
         teamMembers,
+        favoriteTaskIds,
         loginMember,
         isLeader,
         wsConnected,
@@ -372,6 +450,7 @@ function TeamView() {
         updateTask,
         addTask,
         removeTask,
+        updateFavorite,
         updateColumn,
         addColumn,
         removeColumn,
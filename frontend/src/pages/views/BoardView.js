@@ -1,28 +1,33 @@
-import React, { useState, useRef, useEffect, useCallback } from 'react';
+import React, { useState, useRef, useEffect, useCallback, useMemo } from 'react';
 import { DragDropContext, Droppable, Draggable } from '@hello-pangea/dnd';
 import {
     columnwrite, columnupdate, columndelete, columnposition,
     taskwrite, taskdelete, taskposition,
     tasklistByTeam, columnlistByTeam
 } from '../../api/boardApi';
-import { addTaskFavorite, removeTaskFavorite, checkTaskFavorite, getTaskFavorites, archiveTask, unarchiveTask, getTaskArchives } from '../../api/boardApi';
+import { addTaskFavorite, removeTaskFavorite, archiveTask, unarchiveTask, getTaskArchives } from '../../api/boardApi';
 import TaskDetailView from '../../components/TaskDetailView';
 import TaskCreateModal from '../../components/TaskCreateModal';
 import { WORKFLOW_STATUSES } from '../../constants/workflowStatuses';
 import ShaderBackground from '../../components/landing/shader-background';
 import './BoardView.css';
 
+// 컬럼 맨 뒤에 놓을 때의 정렬 키 간격 (서버 Task.POSITION_GAP과 같은 값)
+const TASK_POSITION_GAP = 1024;
+
 
 function BoardView({
     team,
     columns: propColumns,
     tasks: propTasks,
     teamMembers,
+    favoriteTaskIds,
     loginMember,
     filters,
     updateTask,
     addTask,
     removeTask,
+    updateFavorite,
     updateColumn,
     addColumn,
     removeColumn,
@@ -52,7 +57,14 @@ function BoardView({
     const [editingColumnPrefix, setEditingColumnPrefix] = useState(null); // GitHub 명령어 편집 중인 컬럼
 
     // 태스크 즐겨찾기 관련 상태
-    const [taskFavorites, setTaskFavorites] = useState({});  // { taskId: boolean }
+    // 즐겨찾기는 TeamView가 보드 스냅샷으로 받아 둔 목록 사용
+    const taskFavorites = useMemo(() => {
+        const favoritesMap = {};  // { taskId: boolean }
+        (favoriteTaskIds || []).forEach(taskId => {
+            favoritesMap[taskId] = true;
+        });
+        return favoritesMap;
+    }, [favoriteTaskIds]);
     const [taskArchives, setTaskArchives] = useState({});  // { taskId: boolean }
     const [createTaskModalColumnId, setCreateTaskModalColumnId] = useState(null);
 
@@ -72,29 +84,13 @@ function BoardView({
 
     // 주의: propTasks useEffect 제거 - DnD 상태 유지를 위해
 
-    // 태스크 즐겨찾기/아카이브 로드
+    // 태스크 아카이브 로드
     useEffect(() => {
         if (loginMember) {
-            loadTaskFavorites();
             loadTaskArchives();
         }
     }, [loginMember]);
 
-    const loadTaskFavorites = async () => {
-        if (!loginMember) return;
-
-        try {
-            const favorites = await getTaskFavorites(loginMember.no);
-            const favoritesMap = {};
-            favorites.forEach(task => {
-                favoritesMap[task.taskId] = true;
-            });
-            setTaskFavorites(favoritesMap);
-        } catch (error) {
-            console.error('즐겨찾기 로드 실패:', error);
-        }
-    };
-
     const loadTaskArchives = async () => {
         if (!loginMember) return;
 
@@ -172,10 +168,7 @@ function BoardView({
                 await addTaskFavorite(taskId, loginMember.no);
             }
 
-            setTaskFavorites(prev => ({
-                ...prev,
-                [taskId]: !isFavorited
-            }));
+            updateFavorite?.(taskId, !isFavorited);
         } catch (error) {
             console.error('즐겨찾기 토글 실패:', error);
         }
@@ -186,7 +179,7 @@ function BoardView({
         if (!filters.searchQuery) return true; // 검색어 없으면 모두 매칭
         const query = filters.searchQuery.toLowerCase();
         const matchTitle = task.title?.toLowerCase().includes(query);
-        const matchDesc = task.description?.toLowerCase().includes(query);
+        const matchDesc = task.descriptionExcerpt?.toLowerCase().includes(query);
         const matchAssignee = task.assignees?.some(a =>
             a.memberName?.toLowerCase().includes(query)
         );
@@ -307,8 +300,15 @@ function BoardView({
             const taskIndex = newTasks.findIndex(t => t.taskId === taskId);
             if (taskIndex === -1) return;
 
+            // 정렬 키는 서버처럼 놓은 자리 앞뒤 카드 키의 중간값 (이벤트가 오기 전에 카드가 튀지 않도록)
+            const destTasks = getTasksByColumn(destColumnId).filter(t => t.taskId !== taskId);
+            const prevTask = destTasks[destination.index - 1];
+            const nextTask = destTasks[destination.index];
+            const prevPos = prevTask ? prevTask.position : 0;
             newTasks[taskIndex].columnId = destColumnId;
-            newTasks[taskIndex].position = destination.index + 1;
+            newTasks[taskIndex].position = nextTask
+                ? (prevPos + nextTask.position) / 2
+                : prevPos + TASK_POSITION_GAP;
             setTasks(newTasks);
 
             // API 호출
@@ -123,7 +123,7 @@ function CalendarView({ team, tasks: propTasks, teamMembers, loginMember, filter
             if (filters.searchQuery) {
                 const query = filters.searchQuery.toLowerCase();
                 const matchTitle = task.title?.toLowerCase().includes(query);
-                const matchDesc = task.description?.toLowerCase().includes(query);
+                const matchDesc = task.descriptionExcerpt?.toLowerCase().includes(query);
                 const matchAssignee = task.assignees?.some(a =>
                     a.memberName?.toLowerCase().includes(query)
                 );
@@ -313,8 +313,8 @@ function CalendarView({ team, tasks: propTasks, teamMembers, loginMember, filter
                                         )}
                                         <span className="day-task-title">{task.title}</span>
                                     </div>
-                                    {task.description && (
-                                        <p className="day-task-description">{task.description}</p>
+                                    {task.descriptionExcerpt && (
+                                        <p className="day-task-description">{task.descriptionExcerpt}</p>
                                     )}
                                 </div>
                             ))}
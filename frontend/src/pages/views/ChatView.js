@@ -77,6 +77,16 @@ function ChatView({ team, teamMembers, loginMember }) {
 
         subscriptionRef.current = stompClient.subscribe(destination, (message) => {
             const chatMessage = JSON.parse(message.body);
+            // 서버가 저장하지 못해 버린 메시지 (이미 받은 메시지를 목록에서 뺌)
+            if (chatMessage.eventType === 'CHAT_DELETED') {
+                setMessages(prev => prev.filter(m => m.messageId !== chatMessage.messageId));
+                return;
+            }
+            // 서버 노드 간 전달 실패로 놓친 메시지가 있음 - 목록을 다시 로드
+            if (chatMessage.eventType === 'RESYNC') {
+                loadMessages();
+                return;
+            }
             setMessages(prev => [...prev, chatMessage]);
         });
 
@@ -86,7 +96,7 @@ function ChatView({ team, teamMembers, loginMember }) {
                 subscriptionRef.current = null;
             }
         };
-    }, [teamId]);
+    }, [teamId, loadMessages]);
 
     // 컴포넌트 마운트 시 메시지 로드
     useEffect(() => {
@@ -108,7 +118,9 @@ function ChatView({ team, teamMembers, loginMember }) {
         if (!newMessage.trim() || !loginMember) return;
 
         try {
-            await sendMessage(teamId, loginMember.no, newMessage.trim());
+            if (!websocketService.sendChatMessage(teamId, newMessage.trim())) {
+                await sendMessage(teamId, loginMember.no, newMessage.trim());
+            }
             setNewMessage('');
         } catch (error) {
             alert('메시지 전송에 실패했습니다.');
@@ -110,7 +110,7 @@ function ListView({
         if (!filters?.searchQuery) return true;
         const query = filters.searchQuery.toLowerCase();
         const matchTitle = task.title?.toLowerCase().includes(query);
-        const matchDesc = task.description?.toLowerCase().includes(query);
+        const matchDesc = task.descriptionExcerpt?.toLowerCase().includes(query);
         const matchAssignee = task.assignees?.some(a =>
             a.memberName?.toLowerCase().includes(query)
         );
@@ -289,24 +289,24 @@ function ListView({
 
             const newTasks = [...tasks];
             const taskIndex = newTasks.findIndex(t => t.taskId === taskId);
+            if (taskIndex === -1) return;
             const [movedTask] = newTasks.splice(taskIndex, 1);
 
-            movedTask.columnId = destColumnId;
-
+            // 로컬 순서만 바꾸고 position(간격 정렬 키)은 TASK_MOVED 이벤트로 받음
+            const updatedTask = { ...movedTask, columnId: destColumnId };
             const destColumnTasks = newTasks.filter(t => t.columnId === destColumnId);
-            destColumnTasks.splice(destination.index, 0, movedTask);
-
-            destColumnTasks.forEach((t, idx) => {
-                t.position = idx + 1;
-            });
+            destColumnTasks.splice(destination.index, 0, updatedTask);
 
             const otherTasks = newTasks.filter(t => t.columnId !== destColumnId);
             setTasks([...otherTasks, ...destColumnTasks]);
 
+            // 옮긴 카드 한 장만 저장 (보드와 같은 슬롯 이동 - 앞뒤 카드 사이 중간값)
             try {
-                for (const t of destColumnTasks) {
-                    await taskposition({ taskId: t.taskId, columnId: t.columnId, position: t.position });
-                }
+                await taskposition({
+                    taskId: taskId,
+                    columnId: destColumnId,
+                    position: destination.index + 1
+                });
             } catch (error) {
                 console.error('태스크 위치 저장 실패:', error);
                 if (refreshData) refreshData();
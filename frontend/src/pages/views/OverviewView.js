@@ -1,5 +1,5 @@
-import React, { useState, useEffect } from 'react';
-import { getTaskFavoritesByTeam, toggleTaskFavorite } from '../../api/boardApi';
+import React, { useState, useEffect, useMemo } from 'react';
+import { toggleTaskFavorite } from '../../api/boardApi';
 import { useNavigate } from 'react-router-dom';
 import TeamHeader from '../../components/TeamHeader';
 import { WORKFLOW_STATUSES } from '../../constants/workflowStatuses';
@@ -16,9 +16,8 @@ const calculateMaxItems = () => {
     return 10;
 };
 
-function OverviewView({ team, tasks, teamMembers, loginMember, isLeader, updateTeam, activeTab }) {
+function OverviewView({ team, tasks, teamMembers, favoriteTaskIds, loginMember, isLeader, updateTeam, updateFavorite }) {
     const navigate = useNavigate();
-    const [favoriteTasks, setFavoriteTasks] = useState([]);
     const [showMyTasksModal, setShowMyTasksModal] = useState(false);
     const [showFavoritesModal, setShowFavoritesModal] = useState(false);
     const [maxDisplayItems, setMaxDisplayItems] = useState(calculateMaxItems());
@@ -33,22 +32,11 @@ function OverviewView({ team, tasks, teamMembers, loginMember, isLeader, updateT
         return () => window.removeEventListener('resize', handleResize);
     }, []);
 
-    // 즐겨찾기한 태스크 로드 (개요 탭 진입 시 새로고침)
-    useEffect(() => {
-        if (loginMember && team && activeTab === 'overview') {
-            loadFavoriteTasks();
-        }
-    }, [loginMember, team, activeTab]);
-
-    const loadFavoriteTasks = async () => {
-        try {
-            const favorites = await getTaskFavoritesByTeam(loginMember.no, team.teamId);
-            setFavoriteTasks(Array.isArray(favorites) ? favorites : []);
-        } catch (error) {
-            console.error('즐겨찾기 로드 실패:', error);
-            setFavoriteTasks([]);
-        }
-    };
+    // 즐겨찾기한 태스크 (TeamView가 보드 스냅샷으로 받아 둔 ID 기준)
+    const favoriteTasks = useMemo(() => {
+        const tasksById = new Map(tasks.map(task => [task.taskId, task]));
+        return (favoriteTaskIds || []).map(taskId => tasksById.get(taskId)).filter(Boolean);
+    }, [tasks, favoriteTaskIds]);
 
     // 내가 참여중인 태스크 (담당자로 지정된 태스크)
     const getMyTasks = () => {
@@ -63,8 +51,7 @@ function OverviewView({ team, tasks, teamMembers, loginMember, isLeader, updateT
         try {
             const result = await toggleTaskFavorite(taskId, loginMember.no);
             if (result.success) {
-                // 즐겨찾기 목록 새로고침
-                loadFavoriteTasks();
+                updateFavorite?.(taskId, result.isFavorite);
             }
         } catch (error) {
             console.error('즐겨찾기 토글 실패:', error);
@@ -103,7 +90,7 @@ function OverviewView({ team, tasks, teamMembers, loginMember, isLeader, updateT
                 {WORKFLOW_STATUSES[task.workflowStatus]?.label || task.workflowStatus}
             </span>
             <span className="task-title">{task.title}</span>
-            <span className="task-description">{task.description || '-'}</span>
+            <span className="task-description">{task.descriptionExcerpt || '-'}</span>
             <span className="task-due-date">
                 {task.dueDate
                     ? new Date(task.dueDate).toLocaleDateString('ko-KR', { month: 'short', day: 'numeric' })
@@ -310,7 +310,7 @@ function TimelineView({
             if (filters.searchQuery) {
                 const query = filters.searchQuery.toLowerCase();
                 const matchTitle = task.title?.toLowerCase().includes(query);
-                const matchDesc = task.description?.toLowerCase().includes(query);
+                const matchDesc = task.descriptionExcerpt?.toLowerCase().includes(query);
                 const matchAssignee = task.assignees?.some(a =>
                     a.memberName?.toLowerCase().includes(query)
                 );